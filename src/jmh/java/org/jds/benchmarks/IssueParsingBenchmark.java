@@ -0,0 +1,116 @@
+package org.jds.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.jds.services.IssueFieldParser;
+import org.jds.services.JiraIssueSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.internal.json.IssueJsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Parsing of one recorded issue response (88 fields) by the Jira client's JSON
+ * object graph against {@link IssueFieldParser}. Run with {@code -prof gc} for the
+ * allocation per issue ({@code gc.alloc.rate.norm}). With a field list, both
+ * parse the response Jira sends for that projection.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IssueParsingBenchmark {
+
+    // Comma-separated field ids, or all fields
+    @Param({ "*all", "customfield_10000,customfield_10001,customfield_10002" })
+    public String fields;
+
+    private byte[] response;
+    private String responseText;
+    private Set<String> fieldIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        byte[] recorded;
+        try (InputStream in = getClass().getResourceAsStream("/jira/issue.json")) {
+            recorded = in.readAllBytes();
+        }
+        if ("*all".equals(fields)) {
+            fieldIds = null;
+            response = recorded;
+        } else {
+            fieldIds = new LinkedHashSet<>(Arrays.asList(fields.split(",")));
+            response = project(recorded, fieldIds);
+        }
+        responseText = new String(response, StandardCharsets.UTF_8);
+    }
+
+    // What Jira answers when only these fields (and those the client needs) are requested
+    private static byte[] project(byte[] recorded, Set<String> fieldIds) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode issue = (ObjectNode) mapper.readTree(recorded);
+        ObjectNode fields = (ObjectNode) issue.get("fields");
+        Set<String> kept = new LinkedHashSet<>(JiraIssueSearch.REQUIRED_FIELDS);
+        kept.addAll(fieldIds);
+        fields.retain(kept);
+        ((ObjectNode) issue.get("names")).retain(kept);
+        return mapper.writeValueAsBytes(issue);
+    }
+
+    // Every field value read, as getFields callers typically do
+    @Benchmark
+    public void clientParser(Blackhole blackhole) throws JSONException {
+        Issue issue = new IssueJsonParser().parse(new JSONObject(responseText));
+        for (IssueField field : issue.getFields()) {
+            blackhole.consume(field.getValue());
+        }
+    }
+
+    @Benchmark
+    public void streamingParser(Blackhole blackhole) {
+        List<IssueField> parsed = IssueFieldParser.parse(response, fieldIds);
+        for (IssueField field : parsed) {
+            blackhole.consume(field.getValue());
+        }
+    }
+
+    // Fields listed but only their ids read, the values are never parsed
+    @Benchmark
+    public void streamingParserIdsOnly(Blackhole blackhole) {
+        List<IssueField> parsed = IssueFieldParser.parse(response, fieldIds);
+        for (IssueField field : parsed) {
+            blackhole.consume(field.getId());
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package org.jds.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jds.config.JiraProperties;
+import org.jds.services.JIRAService;
+import org.jds.services.JIRAServiceImpl;
+import org.jds.services.JiraAttachmentIndex;
+import org.jds.services.JiraAttachmentTransfer;
+import org.jds.services.JiraBulkIssueCreator;
+import org.jds.services.JiraClientPool;
+import org.jds.services.JiraCommentIndex;
+import org.jds.services.JiraExistenceChecks;
+import org.jds.services.JiraFieldReader;
+import org.jds.services.JiraHttpCache;
+import org.jds.services.JiraHttpTransport;
+import org.jds.services.JiraIssueBatcher;
+import org.jds.services.JiraIssueOperations;
+import org.jds.services.JiraIssueSearch;
+import org.jds.services.JiraIssueStore;
+import org.jds.services.JiraMetadataCache;
+import org.jds.services.JiraMetrics;
+import org.jds.services.JiraResilience;
+import org.jds.services.JiraRestReader;
+import org.jds.services.JiraThrottle;
+import org.jds.services.JiraWriteBehindQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Hot paths of {@link JIRAService} against {@link JiraStubServer}. Throughput and
+ * sampled latency (p50/p99) are reported per operation; run with {@code -prof gc}
+ * (the default of the benchmarks profile) for the allocation rate per operation.
+ * The stub runs in a separate JVM ({@link JiraStubProcess}), so those numbers are
+ * the client's alone.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class JIRAServiceBenchmark {
+
+    private static final String PROJECT_KEY = "JDS";
+    private static final String ISSUE_KEY = "JDS-1";
+    private static final String ISSUE_TYPE = "Task";
+    private static final String ASSIGNEE = "admin";
+
+    // Simulated Jira response time
+    @Param({ "0", "5" })
+    public long latencyMillis;
+
+    @Param({ "16384" })
+    public int attachmentBytes;
+
+    // Serve getIssue and the comment and attachment reads from the local issue store
+    @Param({ "false", "true" })
+    public boolean issueStore;
+
+    // Client sending the project, issue and user loads
+    @Param({ "ATLASSIAN", "JDK" })
+    public JiraProperties.Transport.Type transportType;
+
+    private JiraStubProcess server;
+    private JiraHttpTransport transport;
+    private JiraThrottle throttle;
+    private JiraResilience resilience;
+    private JiraClientPool clientPool;
+    private JIRAService jiraService;
+    private Path attachment;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new JiraStubProcess(latencyMillis);
+        JiraProperties properties = new JiraProperties();
+        properties.setUrl(server.getUrl());
+        // Measure the client, not the rate limit meant to protect a real Jira
+        properties.getThrottle().setRequestsPerSecond(0);
+        JiraMetrics metrics = new JiraMetrics(new SimpleMeterRegistry());
+        throttle = new JiraThrottle(properties, metrics);
+        resilience = new JiraResilience(properties, metrics);
+        clientPool = new JiraClientPool(properties, metrics, throttle, resilience);
+        properties.getTransport().setType(transportType);
+        transport = new JiraHttpTransport(properties);
+        JiraRestReader restReader = new JiraRestReader(transport, metrics, throttle, resilience,
+                new JiraHttpCache(properties, metrics));
+        JiraMetadataCache metadataCache = new JiraMetadataCache(clientPool, restReader, properties);
+        properties.getIssueStore().setEnabled(issueStore);
+        JiraIssueSearch issueSearch = new JiraIssueSearch(clientPool, properties);
+        JiraAttachmentTransfer attachmentTransfer = new JiraAttachmentTransfer(transport, metrics, throttle,
+                resilience);
+        JiraAttachmentIndex attachmentIndex = new JiraAttachmentIndex(attachmentTransfer, issueSearch,
+                properties, metrics);
+        JiraCommentIndex commentIndex = new JiraCommentIndex(properties, metrics);
+        JiraWriteBehindQueue writeBehind = new JiraWriteBehindQueue(properties, clientPool, metadataCache, metrics);
+        JiraIssueStore store = new JiraIssueStore(new JiraIssueBatcher(clientPool, restReader, properties, metrics),
+                issueSearch, properties, metrics);
+        JiraExistenceChecks existenceChecks = new JiraExistenceChecks(clientPool, metadataCache, properties);
+        jiraService = new JIRAServiceImpl(clientPool, metadataCache,
+                new JiraBulkIssueCreator(clientPool, metadataCache, existenceChecks, properties), issueSearch,
+                attachmentTransfer, writeBehind, store, existenceChecks,
+                new JiraFieldReader(properties, restReader),
+                new JiraIssueOperations(clientPool, store, writeBehind, attachmentIndex, commentIndex,
+                        properties),
+                attachmentIndex, commentIndex);
+        attachment = Files.createTempFile("jira-benchmark", ".log");
+        Files.write(attachment, new byte[attachmentBytes]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        clientPool.destroy();
+        throttle.destroy();
+        resilience.destroy();
+        transport.destroy();
+        server.close();
+        Files.deleteIfExists(attachment);
+    }
+
+    @Benchmark
+    public BasicIssue createIssue() throws InterruptedException, ExecutionException {
+        return jiraService.createIssue(PROJECT_KEY, "Benchmark", "Benchmark", ASSIGNEE, ISSUE_TYPE);
+    }
+
+    @Benchmark
+    public Issue getIssue() {
+        return jiraService.getIssue(ISSUE_KEY);
+    }
+
+    @Benchmark
+    public Iterable<Comment> getComments() {
+        return jiraService.getComments(ISSUE_KEY);
+    }
+
+    @Benchmark
+    public void addAttachment() throws IOException {
+        jiraService.addAttachment(ISSUE_KEY, attachment.toString(), "benchmark.log");
+    }
+
+    @Benchmark
+    public boolean issueExists() {
+        return jiraService.issueExists(ISSUE_KEY);
+    }
+
+    @Benchmark
+    public boolean commentExists() {
+        return jiraService.commentExists(ISSUE_KEY, "automated reply");
+    }
+
+    @Benchmark
+    public boolean attachmentExists() {
+        return jiraService.attachmentExists(ISSUE_KEY, "test.txt");
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.jds.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JiraStubServer} running in a JVM of its own, so the allocations and GC
+ * of serving responses don't count towards the benchmark's {@code -prof gc}
+ * numbers. The stub runs on the benchmark's classpath and stops when closed.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraStubProcess implements AutoCloseable {
+
+    private final Process process;
+    private final String url;
+
+    public JiraStubProcess(long latencyMillis) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        this.process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                JiraStubServer.class.getName(), String.valueOf(latencyMillis))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        // The stub prints its URL once it is listening
+        BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8));
+        String line = out.readLine();
+        if (line == null) {
+            process.destroyForcibly();
+            throw new IOException("Jira stub exited before serving, exit code: " + waitFor());
+        }
+        this.url = line;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    private int waitFor() {
+        try {
+            return process.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    // Closing its standard input stops the stub
+    @Override
+    public void close() throws IOException {
+        process.getOutputStream().close();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.jds.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * HTTP server answering the Jira REST endpoints used by the services with
+ * recorded JSON responses, after a configurable latency. Benchmarks run it in a
+ * process of its own through {@link JiraStubProcess}.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraStubServer implements AutoCloseable {
+
+    private static final String API = "/rest/api/2/";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final Map<String, byte[]> responses = new HashMap<>();
+
+    public JiraStubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        for (String name : new String[] { "project", "user", "issue", "search", "created", "attachments" }) {
+            responses.put(name, load(name));
+        }
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(API, this::handle);
+        server.start();
+    }
+
+    // Serves until standard input is closed, printing the URL once it listens
+    public static void main(String[] args) throws IOException {
+        try (JiraStubServer server = new JiraStubServer(args.length > 0 ? Long.parseLong(args[0]) : 0)) {
+            System.out.println(server.getUrl());
+            System.out.flush();
+            System.in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private byte[] load(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/jira/" + name + ".json")) {
+            if (in == null) {
+                throw new IOException("Missing recorded response: " + name);
+            }
+            // Recorded responses point at the recording server, rewrite them once so serving doesn't allocate
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("http://localhost:8081/", getUrl())
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        sleep();
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring(API.length());
+        if (path.startsWith("project/")) {
+            respond(exchange, 200, "project");
+        } else if (path.startsWith("user")) {
+            respond(exchange, 200, "user");
+        } else if (path.startsWith("search")) {
+            respond(exchange, 200, "search");
+        } else if (path.equals("issue")) {
+            respond(exchange, 201, "created");
+        } else if (path.startsWith("issue/") && path.endsWith("/attachments")) {
+            respond(exchange, 200, "attachments");
+        } else if (path.startsWith("issue/") && "GET".equals(method)) {
+            respond(exchange, 200, "issue");
+        } else if (path.startsWith("issue/")) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String name) throws IOException {
+        byte[] body = responses.get(name);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while simulating latency", e));
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
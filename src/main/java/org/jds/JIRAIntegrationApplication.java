@@ -9,11 +9,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
 /**
  * @author J. Daniel Sobrado
  * @version 1.0
  * @since 2022-05-20
  */
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {"org.jds", "springboot.rest"})
 public class JIRAIntegrationApplication {
 
@@ -0,0 +1,276 @@
+package org.jds.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Connection settings for the Jira server, bound from the {@code jira.*} properties.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jira")
+public class JiraProperties {
+
+    private String url = "http://127.0.0.1:8081/";
+    private String username = "dalamar01977";
+    private String password = "admin";
+
+    private final Pool pool = new Pool();
+    private final Cache cache = new Cache();
+    private final Bulk bulk = new Bulk();
+    private final Search search = new Search();
+    private final Throttle throttle = new Throttle();
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final IssueStore issueStore = new IssueStore();
+    private final IssueBatch issueBatch = new IssueBatch();
+    private final Sync sync = new Sync();
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+    private final Resilience resilience = new Resilience();
+    private final Existence existence = new Existence();
+    private final Fields fields = new Fields();
+    private final HttpCache httpCache = new HttpCache();
+    private final Transport transport = new Transport();
+    private final AttachmentIndex attachmentIndex = new AttachmentIndex();
+    private final CommentIndex commentIndex = new CommentIndex();
+    private final Export export = new Export();
+
+    // Connection pool of the shared Jira HTTP client
+    @Data
+    public static class Pool {
+        private int maxConnections = 50;
+        private int maxConnectionsPerRoute = 20;
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+        private Duration socketTimeout = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(60);
+        // Idle connections older than this are evicted from the pool
+        private Duration idleTimeToLive = Duration.ofSeconds(30);
+        private int ioThreads = Runtime.getRuntime().availableProcessors();
+        private int callbackThreads = 16;
+    }
+
+    // Cache of projects, issue types and users
+    @Data
+    public static class Cache {
+        private Duration ttl = Duration.ofHours(1);
+        private long maxSize = 1000;
+    }
+
+    // Bulk issue creation and multi-issue gets, deletes and comments
+    @Data
+    public static class Bulk {
+        // Jira accepts at most 50 issues per bulk create request by default
+        private int batchSize = 50;
+        private int parallelism = 4;
+        // Issues handled at once by the multi-issue operations
+        private int issueParallelism = 16;
+    }
+
+    // JQL search paging
+    @Data
+    public static class Search {
+        private int pageSize = 100;
+    }
+
+    // Client-side rate limit and adaptive concurrency limit for outbound calls
+    @Data
+    public static class Throttle {
+        private boolean enabled = true;
+        // Zero disables the token bucket
+        private double requestsPerSecond = 50;
+        private int burst = 100;
+        private int initialConcurrency = 20;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 50;
+        // Calls slower than this many times the usual latency shrink the concurrency limit
+        private double latencyTolerance = 2.0;
+        // The concurrency limit is multiplied by this when Jira answers 429 or 503
+        private double backoffRatio = 0.5;
+        // Share of the concurrency limit batch jobs may use, the rest is kept for interactive calls
+        private double batchShare = 0.8;
+        private int maxQueued = 10000;
+        private int maxRetries = 3;
+        // Backoff when Jira throttles without a Retry-After header, doubled per retry
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+    }
+
+    // Journaled, coalesced updates and comments sent to Jira in the background
+    @Data
+    public static class WriteBehind {
+        private boolean enabled = false;
+        private String journal = "data/jira-write-behind.journal";
+        // Force every journal write to disk, otherwise it survives a process crash but not a power loss
+        private boolean syncOnWrite = false;
+        // Writes to the same issue within this window are sent as one
+        private Duration window = Duration.ofSeconds(2);
+        private int workers = 4;
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+        // Failed sends are retried after window, doubling up to maxBackoff, or after Jira's Retry-After
+        private Duration maxBackoff = Duration.ofMinutes(5);
+        private int maxAttempts = 10;
+        // Writes still failing after maxAttempts are appended here
+        private String deadLetters = "data/jira-write-behind.dead";
+    }
+
+    // Local store of issues, kept current by Jira webhooks
+    @Data
+    public static class IssueStore {
+        private boolean enabled = false;
+        private long maxSize = 10000;
+        // Stored issues older than this are checked against their updated timestamp on the next read
+        private Duration refreshAfter = Duration.ofSeconds(30);
+        private Duration expireAfterAccess = Duration.ofMinutes(10);
+        // Webhook calls must send it in the X-Jira-Webhook-Secret header, none are accepted while unset
+        private String webhookSecret;
+    }
+
+    // Reads of different issues of a project within the window are fetched with one search
+    @Data
+    public static class IssueBatch {
+        // Adds up to the window to the latency of every issue read, worth it under fan-in
+        private boolean enabled = false;
+        private Duration window = Duration.ofMillis(5);
+        private int maxBatchSize = 50;
+    }
+
+    // Mirror of the issues of some projects in the local database
+    @Data
+    public static class Sync {
+        private boolean enabled = false;
+        private List<String> projects = new ArrayList<>();
+        private Duration interval = Duration.ofMinutes(5);
+        // Projects synced at the same time
+        private int parallelism = 4;
+        // Issues written per transaction
+        private int batchSize = 100;
+        private int pageSize = 100;
+        // Subtracted from the start of a run, so issues updated while it ran are fetched again
+        private Duration overlap = Duration.ofMinutes(5);
+        // Time zone of the Jira user, JQL dates are in it; the system default when empty
+        private String timeZone;
+    }
+
+    // Timeouts, bulkheads, circuit breaker and hedged reads around every Jira call
+    @Data
+    public static class Resilience {
+        private boolean enabled = true;
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration writeTimeout = Duration.ofSeconds(60);
+        private Duration attachmentTimeout = Duration.ofMinutes(10);
+        // Per operation tag, e.g. jira.resilience.timeouts[issue.get]=5s
+        private Map<String, Duration> timeouts = new HashMap<>();
+        // Calls in flight or queued by the throttle per kind of operation
+        private int readBulkhead = 64;
+        private int writeBulkhead = 32;
+        private int attachmentBulkhead = 8;
+        // The circuit opens when this share of the last calls failed
+        private double circuitFailureRate = 0.5;
+        private int circuitWindow = 50;
+        private int circuitMinimumCalls = 20;
+        private Duration circuitOpenFor = Duration.ofSeconds(30);
+        private int circuitHalfOpenCalls = 5;
+        // Send idempotent reads again when they take longer than the p95 of their operation
+        private boolean hedging = false;
+        private Set<String> hedgedOperations = new LinkedHashSet<>(List.of("issue.get", "project.get"));
+        private Duration hedgeMinDelay = Duration.ofMillis(20);
+    }
+
+    // Existence checks: keys per search and how long missing entities are remembered
+    @Data
+    public static class Existence {
+        private int batchSize = 100;
+        private Duration negativeTtl = Duration.ofSeconds(30);
+        private long maxSize = 10000;
+    }
+
+    // Field reads parsed with a streaming parser, values parsed on access
+    @Data
+    public static class Fields {
+        private boolean streaming = false;
+    }
+
+    // On-disk cache of Jira GET responses, revalidated with ETag / Last-Modified
+    @Data
+    public static class HttpCache {
+        private boolean enabled = false;
+        private String directory = "data/jira-http-cache";
+        // Least recently used responses are dropped beyond this
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+        private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+        // Responses validated more recently than this are served without asking Jira
+        private Duration freshFor = Duration.ZERO;
+    }
+
+    // JDK HTTP client for attachments, field reads and, with type jdk, project, issue and user loads
+    @Data
+    public static class Transport {
+        private Type type = Type.ATLASSIAN;
+        private boolean http2 = true;
+        private boolean gzip = true;
+        // Threads completing the responses of the JDK client
+        private int threads = 4;
+
+        public enum Type {
+            ATLASSIAN, JDK
+        }
+    }
+
+    // Content digests of uploaded attachments, duplicate uploads are skipped
+    @Data
+    public static class AttachmentIndex {
+        private boolean enabled = false;
+        private String file = "data/jira-attachment-index";
+        private int hashThreads = 2;
+        // Digests of unchanged local files kept in memory
+        private long maxFileDigests = 10000;
+    }
+
+    // In-memory index of the comments read, answers commentExists without reading the issue
+    @Data
+    public static class CommentIndex {
+        private boolean enabled = false;
+        // Past this a comment that isn't found is looked for in Jira again
+        private Duration refreshAfter = Duration.ofSeconds(30);
+        // Past this the comments of the least recently used issues are dropped
+        private int maxIssues = 10000;
+    }
+
+    // Exports of whole projects to Arrow files
+    @Data
+    public static class Export {
+        private String directory = "data/jira-export";
+        // Search pages fetched at the same time
+        private int parallelism = 4;
+        private int pageSize = 100;
+        // Fetched pages waiting to be written, fetchers wait while it is full
+        private int queuePages = 8;
+        // Rows per record batch of each file
+        private int batchSize = 10000;
+    }
+
+    // Only read with a JDK 21 runtime
+    @Data
+    public static class VirtualThreads {
+        private boolean enabled = false;
+        // Carrier threads running the virtual threads, 0 keeps the JVM default of one per core
+        private int parallelism = 0;
+        // Pins of a carrier longer than this are logged and counted, null turns the monitoring off
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.jds.config;
+
+import org.jds.controllers.JiraApiController;
+import org.jds.controllers.JiraWebhookController;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Keeps Spring Boot's default login for the application and, once a webhook
+ * secret is configured, lets Jira post its webhooks, which carry no session or
+ * CSRF token. The webhook checks its own shared secret. The REST API has a chain
+ * of its own: HTTP Basic credentials on every call and no session, so the login
+ * cookie of the application never authenticates an API call and there is no
+ * session for a CSRF token to protect.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class SecurityConfig {
+
+    private final JiraProperties properties;
+
+    public SecurityConfig(JiraProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+        http.antMatcher(JiraApiController.PATH + "/**")
+                .authorizeRequests()
+                .anyRequest().authenticated()
+                .and()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .csrf().disable()
+                .httpBasic();
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (JiraWebhookController.isConfigured(properties.getIssueStore())) {
+            http.authorizeRequests()
+                    .antMatchers(HttpMethod.POST, JiraWebhookController.PATH).permitAll();
+        }
+        http.authorizeRequests()
+                .anyRequest().authenticated()
+                .and()
+                .csrf().ignoringAntMatchers(JiraWebhookController.PATH)
+                .and()
+                .formLogin()
+                .and()
+                .httpBasic();
+        return http.build();
+    }
+
+}
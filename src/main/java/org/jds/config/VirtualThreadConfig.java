@@ -0,0 +1,132 @@
+package org.jds.config;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.EventSettings;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs incoming requests, and the Jira calls they block on, on virtual threads
+ * instead of Tomcat's worker pool, so slow Jira calls tie up no platform thread.
+ * Only active with {@code jira.virtual-threads.enabled=true}, which needs a JDK 21
+ * runtime. The JDK 21 APIs are looked up reflectively, so the class is built for
+ * Java 11 like the rest of the application and Spring never has to read a newer
+ * class file.
+ * <p>
+ * A virtual thread blocked inside {@code synchronized} pins its carrier; those
+ * pins are counted in {@code jvm.threads.virtual.pinned} and logged with the
+ * frame that pinned.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "jira.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final ExecutorService executor;
+    private final AutoCloseable pinnedEvents;
+
+    public VirtualThreadConfig(JiraProperties properties, MeterRegistry registry) throws ReflectiveOperationException {
+        JiraProperties.VirtualThreads settings = properties.getVirtualThreads();
+        // Read once, when the first virtual thread starts, so -D on the command line still wins
+        if (settings.getParallelism() > 0 && System.getProperty("jdk.virtualThreadScheduler.parallelism") == null) {
+            System.setProperty("jdk.virtualThreadScheduler.parallelism",
+                    Integer.toString(settings.getParallelism()));
+        }
+        this.executor = virtualThreads("request-");
+        this.pinnedEvents = settings.getPinnedThreshold() != null ? monitorPinning(settings.getPinnedThreshold(),
+                registry.counter("jvm.threads.virtual.pinned")) : null;
+        log.info("Serving requests on virtual threads");
+    }
+
+    // Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory())
+    private static ExecutorService virtualThreads(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("jira.virtual-threads.enabled needs JDK 21 or later, running on "
+                    + Runtime.version(), e);
+        }
+    }
+
+    // A jdk.jfr.consumer.RecordingStream, available from JDK 14
+    private static AutoCloseable monitorPinning(Duration threshold, Counter pinned)
+            throws ReflectiveOperationException {
+        Class<?> streamType = Class.forName("jdk.jfr.consumer.RecordingStream");
+        Object stream = streamType.getConstructor().newInstance();
+        ((EventSettings) streamType.getMethod("enable", String.class).invoke(stream, PINNED_EVENT))
+                .withThreshold(threshold)
+                .withStackTrace();
+        Consumer<RecordedEvent> onPinned = event -> {
+            pinned.increment();
+            log.warn("Virtual thread pinned its carrier for {} ms at {}", event.getDuration().toMillis(),
+                    pinnedAt(event));
+        };
+        streamType.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, onPinned);
+        streamType.getMethod("startAsync").invoke(stream);
+        return (AutoCloseable) stream;
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        // Skip the JDK frames that park the thread
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return event.getStackTrace().getFrames().get(0).getMethod().getName();
+    }
+
+    // A virtual thread per request instead of Tomcat's worker pool
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // Async MVC requests (DeferredResult, Callable) and @Async methods, replacing Boot's bounded pool
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(virtualThreads("task-"));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (pinnedEvents != null) {
+            pinnedEvents.close();
+        }
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,299 @@
+package org.jds.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jds.services.AsyncJIRAService;
+import org.jds.services.IssueCreationResult;
+import org.jds.services.IssueRequest;
+import org.jds.services.JiraErrors;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST API over {@link AsyncJIRAService}. Handlers return futures, so the servlet
+ * thread is released while Jira is called and the response is written when the
+ * call completes. Searches stream one issue per line (NDJSON) as the pages arrive,
+ * asking for the next issue only once the previous one is written. Attachments are
+ * streamed from Jira to the client as they download. Calls naming many issues at
+ * once are limited to {@link #MAX_KEYS} keys, and search pages to
+ * {@link #MAX_PAGE_SIZE} issues.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping(JiraApiController.PATH)
+public class JiraApiController {
+
+    public static final String PATH = "/api/jira";
+    public static final int MAX_KEYS = 1000;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final AsyncJIRAService jiraService;
+
+    public JiraApiController(AsyncJIRAService jiraService) {
+        this.jiraService = jiraService;
+    }
+
+    @GetMapping("/issues/{issueKey}")
+    public CompletableFuture<ObjectNode> getIssue(@PathVariable String issueKey) {
+        return jiraService.getIssue(issueKey).thenApply(JiraJson::issue);
+    }
+
+    @GetMapping("/issues")
+    public CompletableFuture<ArrayNode> getIssues(@RequestParam List<String> keys) {
+        checkKeys(keys);
+        return jiraService.getIssues(keys).thenApply(results -> JiraJson.results(results, JiraJson::issue));
+    }
+
+    @PostMapping("/issues")
+    public CompletableFuture<List<IssueCreationResult>> createIssues(@RequestBody List<IssueRequest> issues) {
+        return jiraService.createIssues(issues);
+    }
+
+    @DeleteMapping("/issues/{issueKey}")
+    public CompletableFuture<ResponseEntity<Void>> deleteIssue(@PathVariable String issueKey) {
+        return jiraService.deleteIssue(issueKey).thenApply(ignored -> ResponseEntity.noContent().build());
+    }
+
+    @DeleteMapping("/issues")
+    public CompletableFuture<ArrayNode> deleteIssues(@RequestParam List<String> keys) {
+        checkKeys(keys);
+        return jiraService.deleteIssues(keys).thenApply(results -> JiraJson.results(results, null));
+    }
+
+    @GetMapping("/issues/{issueKey}/comments")
+    public CompletableFuture<ArrayNode> getComments(@PathVariable String issueKey) {
+        return jiraService.getComments(issueKey).thenApply(comments -> JiraJson.array(comments, JiraJson::comment));
+    }
+
+    // Body: {"body": "..."}
+    @PostMapping("/issues/{issueKey}/comments")
+    public CompletableFuture<ResponseEntity<Void>> addComment(@PathVariable String issueKey,
+            @RequestBody JsonNode comment) {
+        return jiraService.addComment(issueKey, body(comment))
+                .thenApply(ignored -> ResponseEntity.status(HttpStatus.CREATED).build());
+    }
+
+    // Body: {"issueKeys": ["JDS-1", ...], "body": "..."}
+    @PostMapping("/comments")
+    public CompletableFuture<ArrayNode> addComments(@RequestBody JsonNode comment) {
+        List<String> issueKeys = new ArrayList<>();
+        comment.path("issueKeys").forEach(key -> issueKeys.add(key.asText()));
+        checkKeys(issueKeys);
+        return jiraService.addComments(issueKeys, body(comment)).thenApply(results -> JiraJson.results(results, null));
+    }
+
+    @GetMapping("/comments")
+    public CompletableFuture<ArrayNode> searchComments(@RequestParam String text) {
+        return jiraService.searchComments(text).thenApply(matches -> JiraJson.array(matches, JiraJson::comment));
+    }
+
+    @GetMapping("/issues/{issueKey}/attachments")
+    public CompletableFuture<ArrayNode> getAttachments(@PathVariable String issueKey) {
+        return jiraService.getAttachments(issueKey)
+                .thenApply(attachments -> JiraJson.array(attachments, JiraJson::attachment));
+    }
+
+    // The content is copied from Jira's response to ours as it arrives, never held whole
+    @GetMapping("/issues/{issueKey}/attachments/{attachmentId}")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> getAttachment(@PathVariable String issueKey,
+            @PathVariable long attachmentId) {
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = new DeferredResult<>();
+        jiraService.getAttachments(issueKey)
+                .thenApply(attachments -> find(issueKey, attachments, attachmentId))
+                .thenCompose(attachment -> jiraService.openAttachment(attachment)
+                        .thenAccept(content -> {
+                            // The request timed out or the client left meanwhile, nobody will read it
+                            if (!result.setResult(ResponseEntity.ok()
+                                    .contentType(mediaType(attachment))
+                                    .contentLength(attachment.getSize())
+                                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                            .filename(attachment.getFilename(), StandardCharsets.UTF_8)
+                                            .build()
+                                            .toString())
+                                    .body(out -> copy(content, out)))) {
+                                closeQuietly(content);
+                            }
+                        }))
+                .exceptionally(failure -> {
+                    result.setErrorResult(failure);
+                    return null;
+                });
+        return result;
+    }
+
+    private static Attachment find(String issueKey, Iterable<Attachment> attachments, long attachmentId) {
+        if (attachments != null) {
+            for (Attachment attachment : attachments) {
+                Long id = JiraJson.idOf(attachment.getSelf());
+                if (id != null && id == attachmentId) {
+                    return attachment;
+                }
+            }
+        }
+        throw new NoSuchElementException("Attachment " + attachmentId + " doesn't exist in issue " + issueKey);
+    }
+
+    private static MediaType mediaType(Attachment attachment) {
+        try {
+            return attachment.getMimeType() != null ? MediaType.parseMediaType(attachment.getMimeType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static void copy(InputStream content, OutputStream out) throws IOException {
+        try (InputStream in = content) {
+            in.transferTo(out);
+        }
+    }
+
+    private static void closeQuietly(InputStream content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            log.warn("Failed to close an unread attachment download", e);
+        }
+    }
+
+    private static void checkKeys(List<String> issueKeys) {
+        if (issueKeys.size() > MAX_KEYS) {
+            throw new IllegalArgumentException("At most " + MAX_KEYS + " issue keys per call, got " + issueKeys.size());
+        }
+    }
+
+    // One issue per line, as the search pages arrive
+    @GetMapping(path = "/search", produces = "application/x-ndjson")
+    public ResponseBodyEmitter search(@RequestParam String jql, @RequestParam(required = false) Set<String> fields,
+            @RequestParam(defaultValue = "100") int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        jiraService.searchIssues(jql, fields, pageSize).subscribe(new NdjsonSubscriber(emitter));
+        return emitter;
+    }
+
+    private static String body(JsonNode comment) {
+        String body = comment.path("body").asText(null);
+        if (body == null || body.isEmpty()) {
+            throw new IllegalArgumentException("The comment has no body");
+        }
+        return body;
+    }
+
+    // Jira's own client errors are passed on, everything else is a failure of the gateway whose
+    // details stay in the log
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, String>> onError(Exception e) {
+        Throwable cause = JiraErrors.unwrap(e);
+        Integer jiraStatus = JiraErrors.statusCode(cause);
+        HttpStatus status;
+        String message = String.valueOf(cause.getMessage());
+        if (cause instanceof NoSuchElementException || (jiraStatus != null && jiraStatus == 404)) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (cause instanceof IllegalArgumentException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else if (cause instanceof RejectedExecutionException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            message = "Jira is not taking calls right now, try again later";
+        } else if (jiraStatus != null && jiraStatus / 100 == 4 && HttpStatus.resolve(jiraStatus) != null) {
+            status = HttpStatus.resolve(jiraStatus);
+        } else {
+            status = HttpStatus.BAD_GATEWAY;
+            message = "The call to Jira failed";
+            log.error("Jira API call failed", cause);
+        }
+        return ResponseEntity.status(status).body(Map.of("error", message));
+    }
+
+    // Writes each issue as it is emitted and only then asks for the next one
+    private static final class NdjsonSubscriber implements Flow.Subscriber<Issue> {
+
+        private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+        private final ResponseBodyEmitter emitter;
+        private Flow.Subscription subscription;
+
+        private NdjsonSubscriber(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            emitter.onTimeout(() -> {
+                subscription.cancel();
+                emitter.complete();
+            });
+            emitter.onError(e -> {
+                subscription.cancel();
+                emitter.completeWithError(e);
+            });
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(Issue issue) {
+            try {
+                emitter.send(JiraJson.issue(issue).toString() + "\n", NDJSON);
+            } catch (IOException | IllegalStateException e) {
+                // The client went away, the container completes the response
+                subscription.cancel();
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            log.error("Search stream failed", failure);
+            emitter.completeWithError(failure);
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.complete();
+        }
+    }
+
+}
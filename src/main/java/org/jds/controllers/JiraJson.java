@@ -0,0 +1,153 @@
+package org.jds.controllers;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jds.services.CommentMatch;
+import org.jds.services.IssueOperationResult;
+import org.joda.time.DateTime;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.BasicUser;
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * JSON views of the Jira client's domain objects for the REST API. Users are their
+ * names, dates ISO-8601 and custom fields keep the JSON Jira sent for them.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class JiraJson {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JiraJson() {
+    }
+
+    static ObjectNode issue(Issue issue) {
+        ObjectNode json = NODES.objectNode();
+        json.put("key", issue.getKey());
+        json.put("id", issue.getId());
+        json.put("project", issue.getProject() != null ? issue.getProject().getKey() : null);
+        json.put("issueType", issue.getIssueType() != null ? issue.getIssueType().getName() : null);
+        json.put("status", issue.getStatus() != null ? issue.getStatus().getName() : null);
+        json.put("priority", issue.getPriority() != null ? issue.getPriority().getName() : null);
+        json.put("resolution", issue.getResolution() != null ? issue.getResolution().getName() : null);
+        json.put("summary", issue.getSummary());
+        json.put("description", issue.getDescription());
+        json.put("assignee", name(issue.getAssignee()));
+        json.put("reporter", name(issue.getReporter()));
+        ArrayNode labels = json.putArray("labels");
+        if (issue.getLabels() != null) {
+            issue.getLabels().forEach(labels::add);
+        }
+        json.put("created", date(issue.getCreationDate()));
+        json.put("updated", date(issue.getUpdateDate()));
+        json.put("dueDate", date(issue.getDueDate()));
+        ObjectNode fields = json.putObject("customFields");
+        if (issue.getFields() != null) {
+            for (IssueField field : issue.getFields()) {
+                if (field.getId().startsWith("customfield_") && field.getValue() != null) {
+                    fields.set(field.getId(), value(field.getValue()));
+                }
+            }
+        }
+        return json;
+    }
+
+    static ObjectNode comment(Comment comment) {
+        ObjectNode json = NODES.objectNode();
+        json.put("id", comment.getId());
+        json.put("author", name(comment.getAuthor()));
+        json.put("created", date(comment.getCreationDate()));
+        json.put("updated", date(comment.getUpdateDate()));
+        json.put("body", comment.getBody());
+        return json;
+    }
+
+    static ObjectNode comment(CommentMatch match) {
+        return comment(match.getComment()).put("issueKey", match.getIssueKey());
+    }
+
+    static ObjectNode attachment(Attachment attachment) {
+        ObjectNode json = NODES.objectNode();
+        json.put("id", idOf(attachment.getSelf()));
+        json.put("filename", attachment.getFilename());
+        json.put("size", attachment.getSize());
+        json.put("mimeType", attachment.getMimeType());
+        json.put("author", name(attachment.getAuthor()));
+        json.put("created", date(attachment.getCreationDate()));
+        return json;
+    }
+
+    static <T> ArrayNode results(List<IssueOperationResult<T>> results, Function<T, JsonNode> value) {
+        ArrayNode json = NODES.arrayNode();
+        for (IssueOperationResult<T> result : results) {
+            ObjectNode entry = json.addObject();
+            entry.put("index", result.getIndex());
+            entry.put("issueKey", result.getIssueKey());
+            entry.put("success", result.isSuccess());
+            if (result.getValue() != null) {
+                entry.set("value", value.apply(result.getValue()));
+            }
+            if (result.getError() != null) {
+                entry.put("error", result.getError());
+            }
+        }
+        return json;
+    }
+
+    static <T> ArrayNode array(Iterable<T> values, Function<T, JsonNode> view) {
+        ArrayNode json = NODES.arrayNode();
+        if (values != null) {
+            values.forEach(value -> json.add(view.apply(value)));
+        }
+        return json;
+    }
+
+    // Entities only carry their id at the end of their URI
+    static Long idOf(URI self) {
+        if (self == null) {
+            return null;
+        }
+        String path = self.getPath();
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String name(BasicUser user) {
+        return user != null ? user.getName() : null;
+    }
+
+    private static String date(DateTime date) {
+        return date != null ? date.toString() : null;
+    }
+
+    // Field values are strings, numbers or the jettison JSON Jira sent
+    private static JsonNode value(Object value) {
+        if (value instanceof String) {
+            return NODES.textNode((String) value);
+        }
+        try {
+            return MAPPER.readTree(value.toString());
+        } catch (JsonProcessingException e) {
+            return NODES.textNode(value.toString());
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.jds.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.jds.config.JiraProperties;
+import org.jds.services.JiraAttachmentIndex;
+import org.jds.services.JiraCommentIndex;
+import org.jds.services.JiraIssueStore;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receives Jira webhooks and keeps the {@link JiraIssueStore} current: deleted
+ * issues are dropped and changed issues (fields, comments, worklogs) reloaded.
+ * Attachments removed in Jira are dropped from the {@link JiraAttachmentIndex}, and
+ * the {@link JiraCommentIndex} reads the comments of a changed issue again on its next miss.
+ * Calls must carry {@code jira.issue-store.webhook-secret} in the {@link #SECRET_HEADER}
+ * header; without a configured secret every call is rejected.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@RestController
+@RequestMapping(JiraWebhookController.PATH)
+public class JiraWebhookController {
+
+    public static final String PATH = "/jira/webhook";
+    public static final String SECRET_HEADER = "X-Jira-Webhook-Secret";
+
+    private final JiraIssueStore issueStore;
+    private final JiraAttachmentIndex attachmentIndex;
+    private final JiraCommentIndex commentIndex;
+    private final JiraProperties.IssueStore settings;
+
+    public JiraWebhookController(JiraIssueStore issueStore, JiraAttachmentIndex attachmentIndex,
+            JiraCommentIndex commentIndex, JiraProperties properties) {
+        this.issueStore = issueStore;
+        this.attachmentIndex = attachmentIndex;
+        this.commentIndex = commentIndex;
+        this.settings = properties.getIssueStore();
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> onEvent(@RequestHeader(name = SECRET_HEADER, required = false) String secret,
+            @RequestBody JsonNode event) {
+        if (!isConfigured(settings)) {
+            log.warn("Rejected Jira webhook, jira.issue-store.webhook-secret is not set");
+            return ResponseEntity.status(403).build();
+        }
+        if (!isAuthorized(secret)) {
+            log.warn("Rejected Jira webhook with a wrong secret");
+            return ResponseEntity.status(401).build();
+        }
+        String webhookEvent = event.path("webhookEvent").asText();
+        String issueKey = event.path("issue").path("key").asText(null);
+        log.info("JiraWebhookController.onEvent() - event: {} - issueKey: {}", webhookEvent, issueKey);
+        if (issueKey == null) {
+            return ResponseEntity.accepted().build();
+        }
+        if ("jira:issue_deleted".equals(webhookEvent)) {
+            issueStore.invalidate(issueKey);
+            attachmentIndex.forget(issueKey);
+            commentIndex.forget(issueKey);
+        } else {
+            issueStore.onIssueChanged(issueKey);
+            commentIndex.invalidate(issueKey);
+            if ("comment_deleted".equals(webhookEvent) && event.path("comment").path("id").canConvertToLong()) {
+                commentIndex.forget(issueKey, event.path("comment").path("id").asLong());
+            }
+            forgetRemovedAttachments(issueKey, event.path("changelog").path("items"));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // A removed attachment shows in the changelog with its id as the old value
+    private void forgetRemovedAttachments(String issueKey, JsonNode items) {
+        for (JsonNode item : items) {
+            String from = item.path("from").asText(null);
+            if (!"Attachment".equalsIgnoreCase(item.path("field").asText()) || from == null
+                    || item.path("to").asText(null) != null) {
+                continue;
+            }
+            try {
+                attachmentIndex.forget(issueKey, Long.parseLong(from));
+            } catch (NumberFormatException e) {
+                log.warn("Unexpected attachment id {} in the changelog of {}", from, issueKey);
+            }
+        }
+    }
+
+    // Webhooks are only accepted with a shared secret to check them against
+    public static boolean isConfigured(JiraProperties.IssueStore settings) {
+        return settings.getWebhookSecret() != null && !settings.getWebhookSecret().isBlank();
+    }
+
+    private boolean isAuthorized(String secret) {
+        String expected = settings.getWebhookSecret();
+        return secret != null && MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.jds.entities;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Local copy of a Jira issue kept by the project sync. The key is assigned by
+ * Jira, so new records report themselves as new and are inserted in batches
+ * without a select per record.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "jira_issue", indexes = @Index(name = "idx_jira_issue_project_updated", columnList = "projectKey, updated"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class IssueRecord implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String issueKey;
+    private Long issueId;
+    @Column(length = 64)
+    private String projectKey;
+    private String summary;
+    @Lob
+    private String description;
+    private String status;
+    private String issueType;
+    private String priority;
+    private String assignee;
+    private String reporter;
+    private String resolution;
+    private Instant created;
+    private Instant updated;
+    private Instant syncedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newRecord;
+
+    public IssueRecord(String issueKey) {
+        this.issueKey = issueKey;
+        this.newRecord = true;
+    }
+
+    @Override
+    public String getId() {
+        return issueKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markStored() {
+        newRecord = false;
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.jds.entities;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Progress of the sync of one project: issues updated since the watermark are
+ * fetched by the next run.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "jira_sync_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SyncWatermark {
+
+    @Id
+    @Column(length = 64)
+    private String projectKey;
+    private Instant watermark;
+    private Instant lastSyncedAt;
+    private long lastSyncedIssues;
+
+    public SyncWatermark(String projectKey) {
+        this.projectKey = projectKey;
+    }
+
+}
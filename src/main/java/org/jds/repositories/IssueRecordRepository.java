@@ -0,0 +1,17 @@
+package org.jds.repositories;
+
+import org.jds.entities.IssueRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface IssueRecordRepository extends JpaRepository<IssueRecord, String> {
+
+    long countByProjectKey(String projectKey);
+
+}
@@ -0,0 +1,59 @@
+package org.jds.services;
+
+/**
+ * Number of Jira calls allowed in flight, adjusted from the responses: it grows
+ * by one per window of fast calls, shrinks by one per window of calls slower than
+ * {@code latencyTolerance} times the baseline latency of their operation, and is
+ * cut by {@code backoffRatio} when Jira throttles. Not thread-safe, the owner
+ * guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+    // Lowest recent latency per operation, searches are naturally slower than gets
+    private final long[] baselines = new long[JiraOperation.values().length];
+
+    private double limit;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+            double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    void onSuccess(JiraOperation operation, long latencyNanos, int inFlight) {
+        long baseline = baselines[operation.ordinal()];
+        if (baseline == 0 || latencyNanos < baseline) {
+            baselines[operation.ordinal()] = latencyNanos;
+            baseline = latencyNanos;
+        } else {
+            // Drift towards the current latency so a Jira that became slower for good stops counting as congested
+            baselines[operation.ordinal()] = baseline + Math.max(1, (latencyNanos - baseline) / 64);
+        }
+        if (latencyNanos > baseline * latencyTolerance) {
+            limit = Math.max(minLimit, limit - 1 / limit);
+        } else if (inFlight * 2 >= limit) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    void onThrottled() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.jds.services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.joda.time.DateTime;
+
+/**
+ * Writes one table to an Arrow IPC file, a row at a time. Rows are set into the
+ * columns of a single record batch, which is written out and reused every
+ * {@code batchSize} rows, so memory doesn't grow with the number of rows.
+ * <p>
+ * Not thread-safe, the owner guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ArrowTableWriter implements Closeable {
+
+    private static final ArrowType NUMBER = new ArrowType.Int(64, true);
+    private static final ArrowType TIMESTAMP = new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC");
+
+    private final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    private final int batchSize;
+    private int row;
+    private long rows;
+    private boolean closed;
+
+    ArrowTableWriter(Path file, Schema schema, BufferAllocator allocator, int batchSize) throws IOException {
+        this.root = VectorSchemaRoot.create(schema, allocator);
+        this.writer = new ArrowFileWriter(root, null, FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+        this.batchSize = Math.max(1, batchSize);
+        writer.start();
+        root.allocateNew();
+    }
+
+    static Schema schema(Field... fields) {
+        return new Schema(List.of(fields));
+    }
+
+    static Field text(String name) {
+        return Field.nullable(name, ArrowType.Utf8.INSTANCE);
+    }
+
+    static Field number(String name) {
+        return Field.nullable(name, NUMBER);
+    }
+
+    static Field timestamp(String name) {
+        return Field.nullable(name, TIMESTAMP);
+    }
+
+    void setText(int column, String value) {
+        VarCharVector vector = (VarCharVector) root.getVector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    void setNumber(int column, Long value) {
+        BigIntVector vector = (BigIntVector) root.getVector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value);
+        }
+    }
+
+    void setTime(int column, DateTime value) {
+        TimeStampMilliTZVector vector = (TimeStampMilliTZVector) root.getVector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.getMillis());
+        }
+    }
+
+    // The columns of the current row are set, columns left unset are null
+    void endRow() throws IOException {
+        row++;
+        rows++;
+        if (row == batchSize) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (row == 0) {
+            return;
+        }
+        root.setRowCount(row);
+        writer.writeBatch();
+        root.allocateNew();
+        row = 0;
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    // Writes the last batch and the footer
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            writer.end();
+        } finally {
+            writer.close();
+            root.close();
+        }
+    }
+
+}
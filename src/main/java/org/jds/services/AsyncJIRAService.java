@@ -0,0 +1,56 @@
+package org.jds.services;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.springframework.stereotype.Service;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.Project;
+
+/**
+ * Non-blocking counterpart of {@link JIRAService}.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public interface AsyncJIRAService {
+    public CompletableFuture<BasicIssue> createIssue(String projectKey, String summary, String description, String assignee, String issueType);
+    public CompletableFuture<List<IssueCreationResult>> createIssues(List<IssueRequest> issues);
+    public CompletableFuture<Void> updateIssue(String projectKey, String issueKey, String summary, String description, String assignee, String issueType);
+    public CompletableFuture<Void> deleteIssue(String issueKey);
+    public CompletableFuture<List<IssueOperationResult<Void>>> deleteIssues(List<String> issueKeys);
+    public CompletableFuture<Issue> getIssue(String issueKey);
+    public CompletableFuture<List<IssueOperationResult<Issue>>> getIssues(List<String> issueKeys);
+    public CompletableFuture<Issue> getIssue(String issueKey, Set<String> fields);
+    public CompletableFuture<Void> addComment(String issueKey, String comment);
+    public CompletableFuture<List<IssueOperationResult<Void>>> addComments(List<String> issueKeys, String comment);
+    public CompletableFuture<Void> assignIssue(String issueKey, String assignee);
+    public CompletableFuture<Void> addAttachments(String issueKey, List<Path> files);
+    public CompletableFuture<Path> downloadAttachment(Attachment attachment, Path target);
+    public CompletableFuture<InputStream> openAttachment(Attachment attachment);
+    public CompletableFuture<Boolean> issueTypeExists(String projectKey, String issueType);
+    public CompletableFuture<Boolean> issueExists(String issueKey);
+    public CompletableFuture<Map<String, Boolean>> issuesExist(Collection<String> issueKeys);
+    public CompletableFuture<Boolean> projectExists(String projectKey);
+    public CompletableFuture<Boolean> userExists(String userName);
+    public CompletableFuture<Project> getProject(String projectKey);
+    public CompletableFuture<String> getIssueType(String projectKey, String issueType);
+    public CompletableFuture<Iterable<Comment>> getComments(String issueKey);
+    public CompletableFuture<List<CommentMatch>> searchComments(String text);
+    public CompletableFuture<Iterable<Attachment>> getAttachments(String issueKey);
+    public CompletableFuture<Iterable<IssueField>> getFields(String issueKey);
+    public Flow.Publisher<Issue> searchIssues(String jql, Set<String> fields, int pageSize);
+}
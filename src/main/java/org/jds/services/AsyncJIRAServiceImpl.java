@@ -0,0 +1,316 @@
+package org.jds.services;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import com.atlassian.jira.rest.client.api.JiraRestClient;
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.IssueType;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
+import com.atlassian.util.concurrent.Promise;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Composes the Jira client promises into {@link CompletableFuture}s. Independent
+ * lookups are started together, so writes cost the slowest single round trip.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class AsyncJIRAServiceImpl implements AsyncJIRAService {
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment");
+    private static final Set<String> ATTACHMENT_FIELDS = Set.of("attachment");
+
+    private final JiraClientPool clientPool;
+    private final JiraMetadataCache metadataCache;
+    private final JiraBulkIssueCreator bulkIssueCreator;
+    private final JiraIssueSearch issueSearch;
+    private final JiraAttachmentTransfer attachmentTransfer;
+    private final JiraWriteBehindQueue writeBehind;
+    private final JiraIssueStore issueStore;
+    private final JiraExistenceChecks existenceChecks;
+    private final JiraFieldReader fieldReader;
+    private final JiraIssueOperations issueOperations;
+    private final JiraAttachmentIndex attachmentIndex;
+    private final JiraCommentIndex commentIndex;
+
+    public AsyncJIRAServiceImpl(JiraClientPool clientPool, JiraMetadataCache metadataCache,
+            JiraBulkIssueCreator bulkIssueCreator, JiraIssueSearch issueSearch,
+            JiraAttachmentTransfer attachmentTransfer, JiraWriteBehindQueue writeBehind,
+            JiraIssueStore issueStore, JiraExistenceChecks existenceChecks, JiraFieldReader fieldReader,
+            JiraIssueOperations issueOperations, JiraAttachmentIndex attachmentIndex,
+            JiraCommentIndex commentIndex) {
+        this.clientPool = clientPool;
+        this.metadataCache = metadataCache;
+        this.bulkIssueCreator = bulkIssueCreator;
+        this.issueSearch = issueSearch;
+        this.attachmentTransfer = attachmentTransfer;
+        this.writeBehind = writeBehind;
+        this.issueStore = issueStore;
+        this.existenceChecks = existenceChecks;
+        this.fieldReader = fieldReader;
+        this.issueOperations = issueOperations;
+        this.attachmentIndex = attachmentIndex;
+        this.commentIndex = commentIndex;
+    }
+
+    private <T> CompletableFuture<T> call(JiraOperation operation, String projectKey,
+            Function<JiraRestClient, Promise<T>> call) {
+        try {
+            return Promises.toCompletableFuture(clientPool.call(operation, projectKey, call));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Drop the stored copy of the issue once the write is done
+    private <T> CompletableFuture<T> changed(String issueKey, CompletableFuture<T> write) {
+        return write.whenComplete((ignored, e) -> issueStore.invalidate(issueKey));
+    }
+
+    @Override
+    public CompletableFuture<BasicIssue> createIssue(String projectKey, String summary, String description,
+            String assignee, String issueType) {
+        log.info("AsyncJIRAServiceImpl.createIssue()");
+        // Get Project and User in parallel
+        CompletableFuture<Project> project = getProject(projectKey);
+        CompletableFuture<User> user = getUser(assignee);
+
+        return project.thenCombine(user, (projectToUse, assigneeUser) -> new IssueInputBuilder(projectKey,
+                getIssueTypeId(projectToUse, issueType), summary)
+                .setDescription(description)
+                .setAssignee(assigneeUser)
+                .build())
+                .thenCompose(input -> call(JiraOperation.ISSUE_CREATE, projectKey,
+                        client -> client.getIssueClient().createIssue(input)))
+                .whenComplete((issue, e) -> {
+                    if (e == null) {
+                        existenceChecks.invalidate(issue.getKey());
+                        log.info("Created issue: {}", issue.getKey());
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<IssueCreationResult>> createIssues(List<IssueRequest> issues) {
+        return bulkIssueCreator.createIssues(issues);
+    }
+
+    @Override
+    public CompletableFuture<Void> updateIssue(String projectKey, String issueKey, String summary,
+            String description, String assignee, String issueType) {
+        log.info("AsyncJIRAServiceImpl.updateIssue()");
+        if (writeBehind.isEnabled()) {
+            return changed(issueKey, writeBehind.update(projectKey, issueKey, summary, description, assignee,
+                    issueType));
+        }
+        // Get Project and User and check the issue exists in parallel
+        CompletableFuture<Project> project = getProject(projectKey);
+        CompletableFuture<Boolean> issue = issueExists(issueKey).thenApply(exists -> {
+            if (!exists) {
+                throw new NoSuchElementException("Issue " + issueKey + " doesn't exist");
+            }
+            return true;
+        });
+        CompletableFuture<User> user = getUser(assignee);
+
+        return changed(issueKey, CompletableFuture.allOf(project, issue, user)
+                .thenApply(ignored -> new IssueInputBuilder(projectKey, getIssueTypeId(project.join(), issueType),
+                        summary)
+                        .setDescription(description)
+                        .setAssignee(user.join())
+                        .build())
+                .thenCompose(input -> call(JiraOperation.ISSUE_UPDATE, projectKey,
+                        client -> client.getIssueClient().updateIssue(issueKey, input))))
+                .whenComplete((ignored, e) -> {
+                    if (e == null) {
+                        log.info("Updated issue: {}", issueKey);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteIssue(String issueKey) {
+        log.info("AsyncJIRAServiceImpl.deleteIssue()");
+        return issueOperations.delete(issueKey, JiraThrottle.Priority.INTERACTIVE)
+                .whenComplete((ignored, e) -> {
+                    if (e == null) {
+                        log.info("Deleted issue: {}", issueKey);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<IssueOperationResult<Void>>> deleteIssues(List<String> issueKeys) {
+        return issueOperations.deleteIssues(issueKeys);
+    }
+
+    @Override
+    public CompletableFuture<Issue> getIssue(String issueKey) {
+        return issueStore.get(issueKey);
+    }
+
+    @Override
+    public CompletableFuture<List<IssueOperationResult<Issue>>> getIssues(List<String> issueKeys) {
+        return issueOperations.getIssues(issueKeys);
+    }
+
+    @Override
+    public CompletableFuture<Issue> getIssue(String issueKey, Set<String> fields) {
+        return issueSearch.findIssue(issueKey, fields);
+    }
+
+    @Override
+    public CompletableFuture<Void> addComment(String issueKey, String comment) {
+        log.info("AsyncJIRAServiceImpl.addComment()");
+        // Posted to the comments of the key, without reading the issue first
+        return issueOperations.comment(issueKey, comment, JiraThrottle.Priority.INTERACTIVE)
+                .whenComplete((ignored, e) -> {
+                    if (e == null) {
+                        log.info("Added comment to issue: {}", issueKey);
+                    }
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<IssueOperationResult<Void>>> addComments(List<String> issueKeys, String comment) {
+        return issueOperations.addComments(issueKeys, comment);
+    }
+
+    @Override
+    public CompletableFuture<Void> assignIssue(String issueKey, String assignee) {
+        log.info("AsyncJIRAServiceImpl.assignIssue()");
+        if (writeBehind.isEnabled()) {
+            return changed(issueKey, writeBehind.assign(issueKey, assignee));
+        }
+        IssueInput input = new IssueInputBuilder().setAssigneeName(assignee).build();
+        return changed(issueKey, call(JiraOperation.ISSUE_UPDATE, JiraMetrics.projectOf(issueKey),
+                client -> client.getIssueClient().updateIssue(issueKey, input)));
+    }
+
+    @Override
+    public CompletableFuture<Void> addAttachments(String issueKey, List<Path> files) {
+        List<String> filenames = new ArrayList<>(files.size());
+        files.forEach(file -> filenames.add(file.getFileName().toString()));
+        return changed(issueKey, attachmentIndex.upload(issueKey, files, filenames)).thenApply(uploaded -> null);
+    }
+
+    @Override
+    public CompletableFuture<Path> downloadAttachment(Attachment attachment, Path target) {
+        return attachmentTransfer.download(attachment, target);
+    }
+
+    @Override
+    public CompletableFuture<InputStream> openAttachment(Attachment attachment) {
+        return attachmentTransfer.open(attachment);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> issueTypeExists(String projectKey, String issueType) {
+        return getIssueType(projectKey, issueType).thenApply(type -> type != null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> issueExists(String issueKey) {
+        return existenceChecks.issueExists(issueKey);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Boolean>> issuesExist(Collection<String> issueKeys) {
+        return existenceChecks.issuesExist(issueKeys);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> projectExists(String projectKey) {
+        return existenceChecks.projectExists(projectKey);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> userExists(String userName) {
+        return existenceChecks.userExists(userName);
+    }
+
+    @Override
+    public CompletableFuture<Project> getProject(String projectKey) {
+        return metadataCache.getProject(projectKey);
+    }
+
+    @Override
+    public CompletableFuture<String> getIssueType(String projectKey, String issueType) {
+        return metadataCache.getIssueType(projectKey, issueType)
+                .thenApply(type -> type != null ? type.getName() : null);
+    }
+
+    @Override
+    public CompletableFuture<Iterable<Comment>> getComments(String issueKey) {
+        // A stored issue already has its comments
+        return (issueStore.isEnabled() ? getIssue(issueKey) : getIssue(issueKey, COMMENT_FIELDS))
+                .thenApply(issue -> {
+                    commentIndex.index(issueKey, issue.getComments());
+                    return issue.getComments();
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<CommentMatch>> searchComments(String text) {
+        // Answered from memory
+        return CompletableFuture.completedFuture(commentIndex.search(text));
+    }
+
+    @Override
+    public CompletableFuture<Iterable<Attachment>> getAttachments(String issueKey) {
+        return (issueStore.isEnabled() ? getIssue(issueKey) : getIssue(issueKey, ATTACHMENT_FIELDS))
+                .thenApply(Issue::getAttachments);
+    }
+
+    @Override
+    public CompletableFuture<Iterable<IssueField>> getFields(String issueKey) {
+        if (fieldReader.isEnabled() && !issueStore.isEnabled()) {
+            return fieldReader.getFields(issueKey, null).thenApply(fields -> fields);
+        }
+        return getIssue(issueKey).thenApply(Issue::getFields);
+    }
+
+    @Override
+    public Flow.Publisher<Issue> searchIssues(String jql, Set<String> fields, int pageSize) {
+        return issueSearch.publisher(jql, fields, pageSize);
+    }
+
+    // Get User by name, no lookup when there is no assignee
+    private CompletableFuture<User> getUser(String userName) {
+        if (userName == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return metadataCache.getUser(userName);
+    }
+
+    // Get IssueTypeId
+    private static long getIssueTypeId(Project project, String typeName) {
+        IssueType type = JiraMetadataCache.findIssueType(project, typeName);
+        return type != null ? type.getId() : 0L;
+    }
+
+}
@@ -0,0 +1,152 @@
+package org.jds.services;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file behind {@link JiraAttachmentIndex}: a {@code +} line maps the
+ * SHA-256 of an attachment's content on an issue to the attachment id, a
+ * {@code -} line forgets one attachment or, without an id, the whole issue. The
+ * index is held in memory and the file compacted when it is opened.
+ * <p>
+ * Not thread-safe, the owner guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+final class AttachmentDigestFile implements Closeable {
+
+    private static final char ADDED = '+';
+    private static final char REMOVED = '-';
+
+    private final Path file;
+    // Issue key to content digest to attachment id
+    private final Map<String, Map<String, Long>> digests = new HashMap<>();
+
+    private FileChannel channel;
+
+    AttachmentDigestFile(Path file) {
+        this.file = file;
+    }
+
+    void open() throws IOException {
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    read(line);
+                }
+            }
+        } else if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        rewrite();
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        log.info("Opened attachment index {} - issues: {}", file, digests.size());
+    }
+
+    private void read(String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        String[] fields = line.length() > 1 ? line.substring(1).split(" ") : new String[0];
+        try {
+            if (line.charAt(0) == ADDED && fields.length == 3) {
+                digests.computeIfAbsent(fields[0], key -> new HashMap<>()).put(fields[1], Long.parseLong(fields[2]));
+            } else if (line.charAt(0) == REMOVED && fields.length == 1) {
+                digests.remove(fields[0]);
+            } else if (line.charAt(0) == REMOVED && fields.length == 2) {
+                removeAttachment(fields[0], Long.parseLong(fields[1]));
+            } else {
+                log.warn("Skipping unreadable attachment index line: {}", line);
+            }
+        } catch (NumberFormatException e) {
+            // Only the last line can be torn by a crash while it was written
+            log.warn("Skipping unreadable attachment index line: {}", line);
+        }
+    }
+
+    private void rewrite() throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        StringBuilder content = new StringBuilder();
+        digests.forEach((issueKey, attachments) -> attachments.forEach((digest, attachmentId) ->
+                content.append(ADDED).append(issueKey).append(' ').append(digest).append(' ').append(attachmentId)
+                        .append('\n')));
+        Files.writeString(compacted, content, StandardCharsets.UTF_8);
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Attachment id of the content on the issue, null when it was never uploaded
+    Long get(String issueKey, String digest) {
+        Map<String, Long> attachments = digests.get(issueKey);
+        return attachments != null ? attachments.get(digest) : null;
+    }
+
+    // Content digest to attachment id of everything indexed for the issue
+    Map<String, Long> attachments(String issueKey) {
+        Map<String, Long> attachments = digests.get(issueKey);
+        return attachments != null ? new HashMap<>(attachments) : Map.of();
+    }
+
+    void put(String issueKey, String digest, long attachmentId) throws IOException {
+        digests.computeIfAbsent(issueKey, key -> new HashMap<>()).put(digest, attachmentId);
+        write(ADDED + issueKey + ' ' + digest + ' ' + attachmentId + '\n');
+    }
+
+    void remove(String issueKey) throws IOException {
+        if (digests.remove(issueKey) != null) {
+            write(REMOVED + issueKey + '\n');
+        }
+    }
+
+    void remove(String issueKey, long attachmentId) throws IOException {
+        if (removeAttachment(issueKey, attachmentId)) {
+            write(REMOVED + issueKey + ' ' + attachmentId + '\n');
+        }
+    }
+
+    private boolean removeAttachment(String issueKey, long attachmentId) {
+        Map<String, Long> attachments = digests.get(issueKey);
+        if (attachments == null || !attachments.values().remove(attachmentId)) {
+            return false;
+        }
+        if (attachments.isEmpty()) {
+            digests.remove(issueKey);
+        }
+        return true;
+    }
+
+    private void write(String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    int getIssues() {
+        return digests.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+}
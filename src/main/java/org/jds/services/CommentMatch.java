@@ -0,0 +1,18 @@
+package org.jds.services;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+
+import lombok.Value;
+
+/**
+ * A comment found by a search of the comment index, with the issue it belongs to.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+public class CommentMatch {
+    String issueKey;
+    Comment comment;
+}
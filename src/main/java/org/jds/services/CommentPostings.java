@@ -0,0 +1,257 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+
+/**
+ * Inverted index of comment bodies: every lower-cased token maps to the sorted
+ * ids of the comments containing it, held in plain {@code int} arrays. Lookups
+ * narrow the comments down with the postings and confirm each candidate with
+ * {@link String#contains}, so a match means exactly what a scan of the bodies
+ * would have found. Removed comments are skipped until the postings are compacted.
+ * <p>
+ * Not thread-safe, the owner guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CommentPostings {
+
+    private static final int MIN_COMPACTION = 1024;
+
+    // Sorted, so tokens starting with a prefix are a range
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    // Comment id to its entry, null once removed
+    private final List<Entry> entries = new ArrayList<>();
+    // Comments of each issue, by Jira comment id
+    private final Map<String, Map<Long, Integer>> issues = new HashMap<>();
+    private int removed;
+
+    // Index a comment of the issue under its Jira id, replacing the previous version
+    void put(String issueKey, long commentId, Comment comment) {
+        remove(issueKey, commentId);
+        int id = entries.size();
+        entries.add(new Entry(issueKey, commentId, comment));
+        issues.computeIfAbsent(issueKey, key -> new HashMap<>()).put(commentId, id);
+        for (String token : tokens(comment.getBody())) {
+            postings.computeIfAbsent(token, key -> new Postings()).add(id);
+        }
+    }
+
+    Comment get(String issueKey, long commentId) {
+        Map<Long, Integer> comments = issues.get(issueKey);
+        Integer id = comments != null ? comments.get(commentId) : null;
+        return id != null ? entries.get(id).comment : null;
+    }
+
+    Set<Long> commentIds(String issueKey) {
+        Map<Long, Integer> comments = issues.get(issueKey);
+        return comments != null ? new LinkedHashSet<>(comments.keySet()) : new LinkedHashSet<>();
+    }
+
+    void remove(String issueKey, long commentId) {
+        Map<Long, Integer> comments = issues.get(issueKey);
+        Integer id = comments != null ? comments.remove(commentId) : null;
+        if (id == null) {
+            return;
+        }
+        if (comments.isEmpty()) {
+            issues.remove(issueKey);
+        }
+        remove(id);
+    }
+
+    // Compacts once most of the postings point to removed comments
+    private void remove(int id) {
+        entries.set(id, null);
+        removed++;
+        if (removed > MIN_COMPACTION && removed > entries.size() / 2) {
+            compact();
+        }
+    }
+
+    // Comments containing the text, of one issue or of all of them when issueKey is null
+    List<CommentMatch> find(String text, String issueKey) {
+        List<CommentMatch> matches = new ArrayList<>();
+        if (text.isEmpty()) {
+            return matches;
+        }
+        int[] candidates = candidates(text, issueKey);
+        for (int id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry != null && (issueKey == null || issueKey.equals(entry.issueKey))
+                    && entry.comment.getBody() != null && entry.comment.getBody().contains(text)) {
+                matches.add(new CommentMatch(entry.issueKey, entry.comment));
+            }
+        }
+        return matches;
+    }
+
+    // Ids of the comments that can contain the text, a superset of the matches
+    private int[] candidates(String text, String issueKey) {
+        List<String> tokens = tokens(text);
+        if (tokens.isEmpty()) {
+            return all(issueKey);
+        }
+        // The text may start or end in the middle of a word of the body, the tokens in between are whole words
+        boolean wholeFirst = !Character.isLetterOrDigit(text.charAt(0));
+        boolean wholeLast = !Character.isLetterOrDigit(text.charAt(text.length() - 1));
+        int[] result = null;
+        for (int index = 0; index < tokens.size(); index++) {
+            boolean first = index == 0;
+            boolean last = index == tokens.size() - 1;
+            if ((first && !wholeFirst) || (last && !wholeLast)) {
+                continue;
+            }
+            Postings whole = postings.get(tokens.get(index));
+            if (whole == null) {
+                return new int[0];
+            }
+            result = result == null ? whole.toArray() : intersect(result, whole.toArray());
+        }
+        if (result != null) {
+            return result;
+        }
+        if (tokens.size() > 1 || wholeFirst) {
+            // The last word of the text starts a word of the body
+            return union(postings.subMap(tokens.get(tokens.size() - 1), true,
+                    tokens.get(tokens.size() - 1) + Character.MAX_VALUE, true).values());
+        }
+        if (issueKey != null) {
+            return all(issueKey);
+        }
+        // A single word that may be inside a word of the body
+        List<Postings> containing = new ArrayList<>();
+        postings.forEach((token, ids) -> {
+            if (token.contains(tokens.get(0))) {
+                containing.add(ids);
+            }
+        });
+        return union(containing);
+    }
+
+    private int[] all(String issueKey) {
+        if (issueKey == null) {
+            int[] ids = new int[entries.size()];
+            Arrays.setAll(ids, id -> id);
+            return ids;
+        }
+        Map<Long, Integer> comments = issues.getOrDefault(issueKey, Map.of());
+        return comments.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        for (int l = 0, r = 0; l < left.length && r < right.length;) {
+            if (left[l] < right[r]) {
+                l++;
+            } else if (left[l] > right[r]) {
+                r++;
+            } else {
+                result[size++] = left[l];
+                l++;
+                r++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] union(Iterable<Postings> lists) {
+        int size = 0;
+        for (Postings list : lists) {
+            size += list.size;
+        }
+        int[] result = new int[size];
+        int offset = 0;
+        for (Postings list : lists) {
+            System.arraycopy(list.ids, 0, result, offset, list.size);
+            offset += list.size;
+        }
+        return Arrays.stream(result).sorted().distinct().toArray();
+    }
+
+    // Renumber the live comments and rebuild the postings without the removed ones
+    private void compact() {
+        List<Entry> live = new ArrayList<>(entries.size() - removed);
+        entries.forEach(entry -> {
+            if (entry != null) {
+                live.add(entry);
+            }
+        });
+        entries.clear();
+        postings.clear();
+        issues.clear();
+        removed = 0;
+        for (Entry entry : live) {
+            put(entry.issueKey, entry.commentId, entry.comment);
+        }
+    }
+
+    // Distinct lower-cased runs of letters and digits
+    static List<String> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        int start = -1;
+        for (int index = 0; index <= text.length(); index++) {
+            boolean inWord = index < text.length() && Character.isLetterOrDigit(text.charAt(index));
+            if (inWord && start < 0) {
+                start = index;
+            } else if (!inWord && start >= 0) {
+                tokens.add(text.substring(start, index).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    int getComments() {
+        return entries.size() - removed;
+    }
+
+    int getTokens() {
+        return postings.size();
+    }
+
+    private static final class Entry {
+        private final String issueKey;
+        private final long commentId;
+        private final Comment comment;
+
+        private Entry(String issueKey, long commentId, Comment comment) {
+            this.issueKey = issueKey;
+            this.commentId = commentId;
+            this.comment = comment;
+        }
+    }
+
+    // Growable sorted array of comment ids
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+}
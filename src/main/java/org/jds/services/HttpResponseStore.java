@@ -0,0 +1,247 @@
+package org.jds.services;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directory of cached HTTP responses, one file per URI holding its validators and
+ * body. Bodies are read straight into the array handed to the caller, the least
+ * recently used entries are deleted once the files exceed {@code maxBytes}. The index is rebuilt
+ * from the files on open, so the cache survives restarts.
+ * <p>
+ * Not thread-safe, the owner guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+final class HttpResponseStore implements Closeable {
+
+    private static final int MAGIC = 0x4a484331;
+    private static final String SUFFIX = ".entry";
+    // Offset of the validation time, rewritten in place on every 304
+    private static final int VALIDATED_AT_OFFSET = Integer.BYTES;
+
+    private final Path directory;
+    private final long maxBytes;
+    // Least recently used first
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    HttpResponseStore(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    // Index the entries left by previous runs, oldest validation first
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Entry> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    found.add(readHeader(file));
+                } catch (IOException e) {
+                    log.warn("Deleting unreadable cached response: {}", file);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(entry -> entry.validatedAt));
+        for (Entry entry : found) {
+            entries.put(entry.uri, entry);
+            bytes += entry.size;
+        }
+        evict();
+        log.info("Opened HTTP response cache {} - entries: {} - bytes: {}", directory, entries.size(), bytes);
+    }
+
+    private static Entry readHeader(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1024))) {
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a cached response");
+            }
+            long validatedAt = data.readLong();
+            String uri = data.readUTF();
+            String etag = emptyToNull(data.readUTF());
+            String lastModified = emptyToNull(data.readUTF());
+            int bodyLength = data.readInt();
+            long size = Files.size(file);
+            if (bodyLength < 0 || bodyLength > size) {
+                throw new IOException("Truncated cached response");
+            }
+            return new Entry(file, uri, etag, lastModified, validatedAt, size - bodyLength, bodyLength, size);
+        }
+    }
+
+    Entry get(String uri) {
+        return entries.get(uri);
+    }
+
+    // Body of an entry that is still current, replaced entries point at another file's layout
+    byte[] body(Entry entry) throws IOException {
+        byte[] body = new byte[entry.bodyLength];
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        try (FileChannel channel = FileChannel.open(entry.file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.bodyOffset + buffer.position()) < 0) {
+                    throw new IOException("Truncated cached response");
+                }
+            }
+        }
+        return body;
+    }
+
+    void put(String uri, String etag, String lastModified, long validatedAt, byte[] body) throws IOException {
+        Path file = directory.resolve(fileName(uri));
+        ByteArrayOutputStream header = new ByteArrayOutputStream(256);
+        try (DataOutputStream data = new DataOutputStream(header)) {
+            data.writeInt(MAGIC);
+            data.writeLong(validatedAt);
+            data.writeUTF(uri);
+            data.writeUTF(etag != null ? etag : "");
+            data.writeUTF(lastModified != null ? lastModified : "");
+            data.writeInt(body.length);
+        }
+        // Written aside and moved over, so a crash never leaves half an entry
+        Path written = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(written, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer[] buffers = { ByteBuffer.wrap(header.toByteArray()), ByteBuffer.wrap(body) };
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        Files.move(written, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Entry previous = entries.remove(uri);
+        if (previous != null) {
+            bytes -= previous.size;
+        }
+        Entry entry = new Entry(file, uri, etag, lastModified, validatedAt, header.size(), body.length,
+                header.size() + (long) body.length);
+        entries.put(uri, entry);
+        bytes += entry.size;
+        evict();
+    }
+
+    // Jira confirmed the body is unchanged
+    void revalidated(Entry entry, long validatedAt) throws IOException {
+        try (FileChannel channel = FileChannel.open(entry.file, StandardOpenOption.WRITE)) {
+            ByteBuffer time = ByteBuffer.allocate(Long.BYTES).putLong(0, validatedAt);
+            channel.write(time, VALIDATED_AT_OFFSET);
+        }
+        entry.validatedAt = validatedAt;
+    }
+
+    void remove(String uri) throws IOException {
+        Entry entry = entries.remove(uri);
+        if (entry != null) {
+            bytes -= entry.size;
+            Files.deleteIfExists(entry.file);
+        }
+    }
+
+    private void evict() throws IOException {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            bytes -= entry.size;
+            Files.deleteIfExists(entry.file);
+        }
+    }
+
+    int getEntries() {
+        return entries.size();
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+
+    private static String fileName(String uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(uri.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2 + SUFFIX.length());
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return name.append(SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    @Override
+    public void close() {
+        entries.clear();
+    }
+
+    static final class Entry {
+        private final Path file;
+        private final String uri;
+        private final String etag;
+        private final String lastModified;
+        private final long bodyOffset;
+        private final int bodyLength;
+        private final long size;
+        private long validatedAt;
+
+        private Entry(Path file, String uri, String etag, String lastModified, long validatedAt, long bodyOffset,
+                int bodyLength, long size) {
+            this.file = file;
+            this.uri = uri;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validatedAt = validatedAt;
+            this.bodyOffset = bodyOffset;
+            this.bodyLength = bodyLength;
+            this.size = size;
+        }
+
+        String getUri() {
+            return uri;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+
+        long getValidatedAt() {
+            return validatedAt;
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.jds.services;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * One write queued by {@link JiraWriteBehindQueue}, as stored in its journal.
+ * Fields left null are not changed by the write.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class IssueCommand {
+
+    public enum Type {
+        UPDATE,
+        ASSIGN,
+        COMMENT
+    }
+
+    long sequence;
+    Type type;
+    String issueKey;
+    String projectKey;
+    String summary;
+    String description;
+    String issueType;
+    String assignee;
+    String comment;
+}
@@ -0,0 +1,32 @@
+package org.jds.services;
+
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+
+import lombok.Value;
+
+/**
+ * Outcome of one {@link IssueRequest} in a bulk creation, either the created issue or the error.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+public class IssueCreationResult {
+    int index;
+    IssueRequest request;
+    BasicIssue issue;
+    String error;
+
+    public static IssueCreationResult success(int index, IssueRequest request, BasicIssue issue) {
+        return new IssueCreationResult(index, request, issue, null);
+    }
+
+    public static IssueCreationResult failure(int index, IssueRequest request, String error) {
+        return new IssueCreationResult(index, request, null, error);
+    }
+
+    public boolean isSuccess() {
+        return issue != null;
+    }
+}
@@ -0,0 +1,38 @@
+package org.jds.services;
+
+import java.time.Duration;
+
+import lombok.Value;
+
+/**
+ * Outcome of an export, the rows written to each file or the error.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+public class IssueExportResult {
+    String jql;
+    String directory;
+    long issues;
+    long comments;
+    long changes;
+    long worklogs;
+    Duration duration;
+    String error;
+
+    public static IssueExportResult success(String jql, String directory, long issues, long comments, long changes,
+            long worklogs, Duration duration) {
+        return new IssueExportResult(jql, directory, issues, comments, changes, worklogs, duration, null);
+    }
+
+    public static IssueExportResult failure(String jql, String directory, long issues, Duration duration,
+            String error) {
+        return new IssueExportResult(jql, directory, issues, 0, 0, 0, duration, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
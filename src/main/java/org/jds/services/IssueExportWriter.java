@@ -0,0 +1,237 @@
+package org.jds.services;
+
+import static org.jds.services.ArrowTableWriter.number;
+import static org.jds.services.ArrowTableWriter.schema;
+import static org.jds.services.ArrowTableWriter.text;
+import static org.jds.services.ArrowTableWriter.timestamp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
+import com.atlassian.jira.rest.client.api.domain.BasicUser;
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.Worklog;
+
+/**
+ * Flattens issues into four Arrow files in a directory: {@code issues.arrow}, and
+ * one row per comment, changelog item and worklog in {@code comments.arrow},
+ * {@code changelog.arrow} and {@code worklogs.arrow}, keyed by the issue key.
+ * Custom fields and labels are JSON text. The files are written under a
+ * {@code .part} name and only take their final name once all of them are complete.
+ * <p>
+ * Not thread-safe, the owner guards it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class IssueExportWriter implements Closeable {
+
+    static final String ISSUES = "issues.arrow";
+    static final String COMMENTS = "comments.arrow";
+    static final String CHANGELOG = "changelog.arrow";
+    static final String WORKLOGS = "worklogs.arrow";
+
+    static final Schema ISSUE_SCHEMA = schema(text("key"), number("id"), text("project"), text("issue_type"),
+            text("status"), text("priority"), text("resolution"), text("summary"), text("description"),
+            text("assignee"), text("reporter"), text("labels"), timestamp("created"), timestamp("updated"),
+            timestamp("due"), text("custom_fields"));
+    static final Schema COMMENT_SCHEMA = schema(text("issue_key"), number("id"), text("author"),
+            text("update_author"), timestamp("created"), timestamp("updated"), text("body"));
+    static final Schema CHANGELOG_SCHEMA = schema(text("issue_key"), text("author"), timestamp("created"),
+            text("field_type"), text("field"), text("from"), text("from_string"), text("to"), text("to_string"));
+    static final Schema WORKLOG_SCHEMA = schema(text("issue_key"), number("id"), text("author"),
+            timestamp("started"), number("minutes_spent"), text("comment"), timestamp("created"),
+            timestamp("updated"));
+
+    private static final String PART = ".part";
+
+    private final Path directory;
+    private final BufferAllocator allocator = new RootAllocator();
+    private final List<ArrowTableWriter> tables = new ArrayList<>(4);
+    private final ArrowTableWriter issues;
+    private final ArrowTableWriter comments;
+    private final ArrowTableWriter changelog;
+    private final ArrowTableWriter worklogs;
+    private boolean finished;
+
+    IssueExportWriter(Path directory, int batchSize) throws IOException {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.issues = open(ISSUES, ISSUE_SCHEMA, batchSize);
+            this.comments = open(COMMENTS, COMMENT_SCHEMA, batchSize);
+            this.changelog = open(CHANGELOG, CHANGELOG_SCHEMA, batchSize);
+            this.worklogs = open(WORKLOGS, WORKLOG_SCHEMA, batchSize);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private ArrowTableWriter open(String name, Schema schema, int batchSize) throws IOException {
+        ArrowTableWriter table = new ArrowTableWriter(directory.resolve(name + PART), schema, allocator, batchSize);
+        tables.add(table);
+        return table;
+    }
+
+    // The changelog and worklogs of the issue are passed in, those the issue embeds may be only the first ones
+    void write(Issue issue, Iterable<ChangelogGroup> issueChangelog, Iterable<Worklog> issueWorklogs)
+            throws IOException {
+        String key = issue.getKey();
+        issues.setText(0, key);
+        issues.setNumber(1, issue.getId());
+        issues.setText(2, issue.getProject() != null ? issue.getProject().getKey() : JiraMetrics.projectOf(key));
+        issues.setText(3, issue.getIssueType() != null ? issue.getIssueType().getName() : null);
+        issues.setText(4, issue.getStatus() != null ? issue.getStatus().getName() : null);
+        issues.setText(5, issue.getPriority() != null ? issue.getPriority().getName() : null);
+        issues.setText(6, issue.getResolution() != null ? issue.getResolution().getName() : null);
+        issues.setText(7, issue.getSummary());
+        issues.setText(8, issue.getDescription());
+        issues.setText(9, name(issue.getAssignee()));
+        issues.setText(10, name(issue.getReporter()));
+        issues.setText(11, issue.getLabels() != null && !issue.getLabels().isEmpty()
+                ? new JSONArray(issue.getLabels()).toString() : null);
+        issues.setTime(12, issue.getCreationDate());
+        issues.setTime(13, issue.getUpdateDate());
+        issues.setTime(14, issue.getDueDate());
+        issues.setText(15, customFields(issue));
+        issues.endRow();
+        if (issue.getComments() != null) {
+            for (Comment comment : issue.getComments()) {
+                comments.setText(0, key);
+                comments.setNumber(1, comment.getId());
+                comments.setText(2, name(comment.getAuthor()));
+                comments.setText(3, name(comment.getUpdateAuthor()));
+                comments.setTime(4, comment.getCreationDate());
+                comments.setTime(5, comment.getUpdateDate());
+                comments.setText(6, comment.getBody());
+                comments.endRow();
+            }
+        }
+        if (issueChangelog != null) {
+            for (ChangelogGroup group : issueChangelog) {
+                for (ChangelogItem item : group.getItems()) {
+                    changelog.setText(0, key);
+                    changelog.setText(1, name(group.getAuthor()));
+                    changelog.setTime(2, group.getCreated());
+                    changelog.setText(3, item.getFieldType() != null ? item.getFieldType().name() : null);
+                    changelog.setText(4, item.getField());
+                    changelog.setText(5, item.getFrom());
+                    changelog.setText(6, item.getFromString());
+                    changelog.setText(7, item.getTo());
+                    changelog.setText(8, item.getToString());
+                    changelog.endRow();
+                }
+            }
+        }
+        if (issueWorklogs != null) {
+            for (Worklog worklog : issueWorklogs) {
+                worklogs.setText(0, key);
+                worklogs.setNumber(1, idOf(worklog));
+                worklogs.setText(2, name(worklog.getAuthor()));
+                worklogs.setTime(3, worklog.getStartDate());
+                worklogs.setNumber(4, (long) worklog.getMinutesSpent());
+                worklogs.setText(5, worklog.getComment());
+                worklogs.setTime(6, worklog.getCreationDate());
+                worklogs.setTime(7, worklog.getUpdateDate());
+                worklogs.endRow();
+            }
+        }
+    }
+
+    private static String name(BasicUser user) {
+        return user != null ? user.getName() : null;
+    }
+
+    // Worklogs only carry their id in their URI
+    private static Long idOf(Worklog worklog) {
+        if (worklog.getSelf() == null) {
+            return null;
+        }
+        String path = worklog.getSelf().getPath();
+        try {
+            return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Custom fields with a value, as a JSON object by field id
+    private static String customFields(Issue issue) {
+        JSONObject fields = new JSONObject();
+        try {
+            for (IssueField field : issue.getFields()) {
+                if (field.getId().startsWith("customfield_") && field.getValue() != null
+                        && field.getValue() != JSONObject.NULL) {
+                    fields.put(field.getId(), field.getValue());
+                }
+            }
+        } catch (JSONException e) {
+            throw new IllegalStateException("Unexpected custom field value in " + issue.getKey(), e);
+        }
+        return fields.length() > 0 ? fields.toString() : null;
+    }
+
+    long getIssues() {
+        return issues.getRows();
+    }
+
+    long getComments() {
+        return comments.getRows();
+    }
+
+    long getChanges() {
+        return changelog.getRows();
+    }
+
+    long getWorklogs() {
+        return worklogs.getRows();
+    }
+
+    // Complete the files and give them their final names
+    void finish() throws IOException {
+        for (ArrowTableWriter table : tables) {
+            table.close();
+        }
+        for (String name : List.of(ISSUES, COMMENTS, CHANGELOG, WORKLOGS)) {
+            Files.move(directory.resolve(name + PART), directory.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        finished = true;
+    }
+
+    // Files of an export that didn't finish are deleted
+    @Override
+    public void close() throws IOException {
+        try {
+            for (ArrowTableWriter table : tables) {
+                table.close();
+            }
+        } finally {
+            allocator.close();
+            if (!finished) {
+                for (String name : List.of(ISSUES, COMMENTS, CHANGELOG, WORKLOGS)) {
+                    Files.deleteIfExists(directory.resolve(name + PART));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.IssueFieldId;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads the fields of an issue response with a streaming parser instead of the
+ * client's JSON object graph. Fields that weren't asked for are skipped without
+ * being parsed, the others keep their value as a slice of the response and are
+ * parsed on access ({@link LazyIssueField}). Like the Jira client, fields with a
+ * domain property of their own (summary, status, ...) are not returned.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IssueFieldParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final Set<String> SYSTEM_FIELDS = new HashSet<>();
+
+    static {
+        for (IssueFieldId field : IssueFieldId.values()) {
+            SYSTEM_FIELDS.add(field.id);
+        }
+    }
+
+    private IssueFieldParser() {
+    }
+
+    // Fields of an issue response in response order, fieldIds null for all of them
+    public static List<IssueField> parse(byte[] json, Set<String> fieldIds) {
+        Map<String, long[]> values = new LinkedHashMap<>();
+        Map<String, String> names = Map.of();
+        Map<String, String> types = Map.of();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Issue response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (section) {
+                    case "fields":
+                        readValues(parser, fieldIds, values);
+                        break;
+                    case "names":
+                        names = readNames(parser);
+                        break;
+                    case "schema":
+                        types = readTypes(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse issue response", e);
+        }
+        List<IssueField> fields = new ArrayList<>(values.size());
+        for (Map.Entry<String, long[]> value : values.entrySet()) {
+            String id = value.getKey();
+            long[] slice = value.getValue();
+            fields.add(new LazyIssueField(id, names.get(id), types.get(id), json, (int) slice[0],
+                    (int) (slice[1] - slice[0])));
+        }
+        return fields;
+    }
+
+    // Remember where the wanted values start and end, skipping everything else
+    private static void readValues(JsonParser parser, Set<String> fieldIds, Map<String, long[]> values)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String id = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (SYSTEM_FIELDS.contains(id) || fieldIds != null && !fieldIds.contains(id)) {
+                parser.skipChildren();
+                continue;
+            }
+            long start = parser.getTokenLocation().getByteOffset();
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            } else {
+                // Strings are only read up to their end when asked to
+                parser.finishToken();
+            }
+            values.put(id, new long[] { start, parser.getCurrentLocation().getByteOffset() });
+        }
+    }
+
+    private static Map<String, String> readNames(JsonParser parser) throws IOException {
+        Map<String, String> names = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String id = parser.getCurrentName();
+            parser.nextToken();
+            names.put(id, parser.getValueAsString());
+            parser.skipChildren();
+        }
+        return names;
+    }
+
+    // Only the type of each field's schema
+    private static Map<String, String> readTypes(JsonParser parser) throws IOException {
+        Map<String, String> types = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String id = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String property = parser.getCurrentName();
+                parser.nextToken();
+                if ("type".equals(property)) {
+                    types.put(id, parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return types;
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.jds.services;
+
+import lombok.Value;
+
+/**
+ * Outcome of a multi-issue operation for one issue key, either the value (null for
+ * deletes and comments) or the error.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+public class IssueOperationResult<T> {
+    int index;
+    String issueKey;
+    T value;
+    String error;
+
+    public static <T> IssueOperationResult<T> success(int index, String issueKey, T value) {
+        return new IssueOperationResult<>(index, issueKey, value, null);
+    }
+
+    public static <T> IssueOperationResult<T> failure(int index, String issueKey, String error) {
+        return new IssueOperationResult<>(index, issueKey, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,23 @@
+package org.jds.services;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Fields of one issue to create through {@link JIRAService#createIssues(java.util.List)}.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+@Builder
+@Jacksonized
+public class IssueRequest {
+    String projectKey;
+    String summary;
+    String description;
+    String assignee;
+    String issueType;
+}
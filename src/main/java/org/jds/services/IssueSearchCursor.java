@@ -0,0 +1,100 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+/**
+ * Pages through a JQL search. As soon as a page arrives the following page is
+ * requested, so it downloads while the current one is consumed and never more
+ * than two pages are held at once. Pages must be requested one at a time.
+ * <p>
+ * Paged by key, the JQL must not have an ORDER BY: the results are ordered by
+ * key and every page asks for the issues after the last key of the previous
+ * one. Issues deleted or moved out of the results while paging then can't shift
+ * others past a page boundary, as they do with offsets.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IssueSearchCursor implements AutoCloseable {
+
+    private final JiraClientPool clientPool;
+    private final String jql;
+    private final int pageSize;
+    private final Set<String> fields;
+    private final boolean byKey;
+
+    private volatile CompletableFuture<SearchResult> next;
+    private volatile boolean exhausted;
+
+    IssueSearchCursor(JiraClientPool clientPool, String jql, int pageSize, Set<String> fields) {
+        this(clientPool, jql, pageSize, fields, false);
+    }
+
+    IssueSearchCursor(JiraClientPool clientPool, String jql, int pageSize, Set<String> fields, boolean byKey) {
+        this.clientPool = clientPool;
+        this.jql = jql;
+        this.pageSize = pageSize;
+        this.fields = fields;
+        this.byKey = byKey;
+        this.next = byKey ? search(keysetJql(jql, null), 0) : search(jql, 0);
+    }
+
+    CompletableFuture<SearchResult> search(String pageJql, int startAt) {
+        try {
+            return Promises.toCompletableFuture(
+                    clientPool.call(JiraOperation.ISSUE_SEARCH, null, JiraThrottle.Priority.BATCH,
+                            client -> client.getSearchClient().searchJql(pageJql, pageSize, startAt, fields)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Issues of the JQL after the key, in key order
+    static String keysetJql(String jql, String afterKey) {
+        return afterKey == null ? jql + " ORDER BY key ASC"
+                : "(" + jql + ") AND key > " + JiraIssueSearch.quote(afterKey) + " ORDER BY key ASC";
+    }
+
+    // Next page of issues, empty once the search is exhausted
+    CompletableFuture<List<Issue>> nextPage() {
+        CompletableFuture<SearchResult> page = next;
+        if (exhausted || page == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        next = null;
+        return page.thenApply(result -> {
+            List<Issue> issues = new ArrayList<>(pageSize);
+            result.getIssues().forEach(issues::add);
+            int following = result.getStartIndex() + issues.size();
+            if (issues.isEmpty() || following >= result.getTotal()) {
+                exhausted = true;
+            } else if (!exhausted) {
+                next = byKey ? search(keysetJql(jql, issues.get(issues.size() - 1).getKey()), 0)
+                        : search(jql, following);
+            }
+            return issues;
+        });
+    }
+
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        CompletableFuture<SearchResult> pending = next;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+}
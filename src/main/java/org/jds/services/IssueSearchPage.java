@@ -0,0 +1,24 @@
+package org.jds.services;
+
+import java.util.Map;
+
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+import lombok.Value;
+
+/**
+ * A page of a JQL search with the changelog expanded. Jira embeds only the first
+ * histories of every changelog, so the issues whose changelog was cut short are
+ * listed with the number of histories they really have.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+class IssueSearchPage {
+
+    SearchResult result;
+    // Issue key to changelog total, only for issues with more histories than embedded
+    Map<String, Integer> truncatedChangelogs;
+}
@@ -0,0 +1,112 @@
+package org.jds.services;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+/**
+ * Publishes the issues of a JQL search honoring subscriber demand: issues are only
+ * emitted when requested and the next page is only awaited when demand remains,
+ * so a slow subscriber holds back the search instead of buffering it.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IssueSearchPublisher implements Flow.Publisher<Issue> {
+
+    private final Supplier<IssueSearchCursor> cursorFactory;
+
+    IssueSearchPublisher(Supplier<IssueSearchCursor> cursorFactory) {
+        this.cursorFactory = cursorFactory;
+    }
+
+    // Every subscriber runs its own search
+    @Override
+    public void subscribe(Flow.Subscriber<? super Issue> subscriber) {
+        SearchSubscription subscription = new SearchSubscription(subscriber, cursorFactory.get());
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static class SearchSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Issue> subscriber;
+        private final IssueSearchCursor cursor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Iterator<Issue> page;
+        private volatile boolean fetching;
+        private volatile boolean done;
+
+        private SearchSubscription(Flow.Subscriber<? super Issue> subscriber, IssueSearchCursor cursor) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> {
+                long total = current + added;
+                return total < 0 ? Long.MAX_VALUE : total;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            cursor.close();
+        }
+
+        // Only one thread emits at a time, callers arriving meanwhile make it loop again
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!done && !fetching && demand.get() > 0) {
+                    Iterator<Issue> current = page;
+                    if (current != null && current.hasNext()) {
+                        demand.decrementAndGet();
+                        subscriber.onNext(current.next());
+                        continue;
+                    }
+                    fetching = true;
+                    cursor.nextPage().whenComplete(this::onPage);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void onPage(List<Issue> issues, Throwable e) {
+            if (done) {
+                return;
+            }
+            if (e != null) {
+                done = true;
+                cursor.close();
+                subscriber.onError(e);
+                return;
+            }
+            if (issues.isEmpty()) {
+                done = true;
+                subscriber.onComplete();
+                return;
+            }
+            page = issues.iterator();
+            fetching = false;
+            drain();
+        }
+    }
+
+}
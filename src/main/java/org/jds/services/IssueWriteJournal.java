@@ -0,0 +1,148 @@
+package org.jds.services;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file holding the queued {@link IssueCommand}s until Jira has them.
+ * A command is a {@code +} line with its JSON, a write that reached Jira is a
+ * {@code -} line with its sequence. The file is emptied whenever nothing is
+ * outstanding and compacted when it is opened.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+final class IssueWriteJournal implements Closeable {
+
+    private static final char COMMAND = '+';
+    private static final char DONE = '-';
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path file;
+    private final boolean syncOnWrite;
+    private final Set<Long> outstanding = new HashSet<>();
+
+    private FileChannel channel;
+    private long nextSequence = 1;
+
+    IssueWriteJournal(Path file, boolean syncOnWrite) {
+        this.file = file;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    // Open the journal, returning the commands a previous run didn't get to Jira
+    synchronized List<IssueCommand> open() throws IOException {
+        Map<Long, IssueCommand> commands = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    read(line, commands);
+                }
+            }
+        } else if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        for (IssueCommand command : commands.values()) {
+            nextSequence = Math.max(nextSequence, command.getSequence() + 1);
+        }
+        rewrite(commands.values());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        outstanding.addAll(commands.keySet());
+        if (!commands.isEmpty()) {
+            log.info("Recovered {} queued Jira writes from {}", commands.size(), file);
+        }
+        return new ArrayList<>(commands.values());
+    }
+
+    private void read(String line, Map<Long, IssueCommand> commands) {
+        if (line.isEmpty()) {
+            return;
+        }
+        try {
+            if (line.charAt(0) == COMMAND) {
+                IssueCommand command = mapper.readValue(line.substring(1), IssueCommand.class);
+                commands.put(command.getSequence(), command);
+            } else if (line.charAt(0) == DONE) {
+                commands.remove(Long.parseLong(line.substring(1)));
+            }
+        } catch (JsonProcessingException | NumberFormatException e) {
+            // Only the last line can be torn by a crash while it was written
+            log.warn("Skipping unreadable journal line: {}", line);
+        }
+    }
+
+    // Replace the file with one holding only the outstanding commands
+    private void rewrite(Collection<IssueCommand> commands) throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        StringBuilder content = new StringBuilder();
+        for (IssueCommand command : commands) {
+            content.append(COMMAND).append(mapper.writeValueAsString(command)).append('\n');
+        }
+        Files.writeString(compacted, content, StandardCharsets.UTF_8);
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Journal a command, returning it with its sequence
+    synchronized IssueCommand append(IssueCommand command) throws IOException {
+        IssueCommand sequenced = command.toBuilder().sequence(nextSequence++).build();
+        write(COMMAND + mapper.writeValueAsString(sequenced) + '\n');
+        outstanding.add(sequenced.getSequence());
+        return sequenced;
+    }
+
+    // Forget commands Jira has, or has rejected for good
+    synchronized void complete(Collection<Long> sequences) throws IOException {
+        outstanding.removeAll(sequences);
+        if (outstanding.isEmpty()) {
+            channel.truncate(0);
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (Long sequence : sequences) {
+            lines.append(DONE).append(sequence).append('\n');
+        }
+        write(lines.toString());
+    }
+
+    private void write(String lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (syncOnWrite) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queued writes to one issue, coalesced into at most one update carrying the
+ * latest value of every field plus the comments in the order they were added.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class IssueWrites {
+
+    final String issueKey;
+    String projectKey;
+    String summary;
+    String description;
+    String issueType;
+    String assignee;
+    final List<String> comments = new ArrayList<>();
+    final List<Long> sequences = new ArrayList<>();
+    final List<CompletableFuture<Void>> callbacks = new ArrayList<>();
+    // Sends of these writes that failed and were retried
+    int attempts;
+
+    IssueWrites(String issueKey) {
+        this.issueKey = issueKey;
+    }
+
+    void add(IssueCommand command, CompletableFuture<Void> callback) {
+        if (command.getProjectKey() != null) {
+            projectKey = command.getProjectKey();
+        }
+        if (command.getSummary() != null) {
+            summary = command.getSummary();
+        }
+        if (command.getDescription() != null) {
+            description = command.getDescription();
+        }
+        if (command.getIssueType() != null) {
+            issueType = command.getIssueType();
+        }
+        if (command.getAssignee() != null) {
+            assignee = command.getAssignee();
+        }
+        if (command.getComment() != null) {
+            comments.add(command.getComment());
+        }
+        sequences.add(command.getSequence());
+        if (callback != null) {
+            callbacks.add(callback);
+        }
+    }
+
+    // Writes queued after these ones take precedence
+    void addAll(IssueWrites newer) {
+        if (newer.projectKey != null) {
+            projectKey = newer.projectKey;
+        }
+        if (newer.summary != null) {
+            summary = newer.summary;
+        }
+        if (newer.description != null) {
+            description = newer.description;
+        }
+        if (newer.issueType != null) {
+            issueType = newer.issueType;
+        }
+        if (newer.assignee != null) {
+            assignee = newer.assignee;
+        }
+        comments.addAll(newer.comments);
+        sequences.addAll(newer.sequences);
+        callbacks.addAll(newer.callbacks);
+    }
+
+    boolean hasUpdate() {
+        return summary != null || description != null || issueType != null || assignee != null;
+    }
+
+    // The update went through, only the comments are left
+    void updated() {
+        summary = null;
+        description = null;
+        issueType = null;
+        assignee = null;
+    }
+
+    // What is left to send, as commands that can be journaled again
+    List<IssueCommand> toCommands() {
+        List<IssueCommand> commands = new ArrayList<>();
+        if (hasUpdate()) {
+            commands.add(IssueCommand.builder()
+                    .type(IssueCommand.Type.UPDATE)
+                    .issueKey(issueKey)
+                    .projectKey(projectKey)
+                    .summary(summary)
+                    .description(description)
+                    .issueType(issueType)
+                    .assignee(assignee)
+                    .build());
+        }
+        for (String comment : comments) {
+            commands.add(IssueCommand.builder()
+                    .type(IssueCommand.Type.COMMENT)
+                    .issueKey(issueKey)
+                    .projectKey(projectKey)
+                    .comment(comment)
+                    .build());
+        }
+        return commands;
+    }
+
+    String getProjectKey() {
+        return projectKey != null ? projectKey : JiraMetrics.projectOf(issueKey);
+    }
+
+}
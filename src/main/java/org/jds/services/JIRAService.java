@@ -1,10 +1,17 @@
 package org.jds.services;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
+import com.atlassian.jira.rest.client.api.IssueRestClient;
 import com.atlassian.jira.rest.client.api.domain.Attachment;
 import com.atlassian.jira.rest.client.api.domain.BasicIssue;
 import com.atlassian.jira.rest.client.api.domain.Comment;
@@ -21,20 +28,33 @@ import com.atlassian.util.concurrent.Promise;
 @Service
 public interface JIRAService {
     public BasicIssue createIssue(String projectKey, String summary, String description, String assignee, String issueType) throws InterruptedException, ExecutionException;
+    public List<IssueCreationResult> createIssues(List<IssueRequest> issues);
     public Promise<Void> updateIssue(String projectKey, String issueKey, String summary, String description, String assignee, String issueType) throws InterruptedException, ExecutionException;
     public void deleteIssue(String issueKey);
+    public List<IssueOperationResult<Void>> deleteIssues(List<String> issueKeys);
     public Issue getIssue(String issueKey);
+    public List<IssueOperationResult<Issue>> getIssues(List<String> issueKeys);
+    public Issue getIssue(String issueKey, Set<String> fields);
+    public Issue getIssue(String issueKey, Iterable<IssueRestClient.Expand> expand);
     public void addComment(String issueKey, String comment);
+    public List<IssueOperationResult<Void>> addComments(List<String> issueKeys, String comment);
+    public Promise<Void> assignIssue(String issueKey, String assignee);
     public void addAttachment(String issueKey, String filePath, String filename) throws IOException;
+    public void addAttachments(String issueKey, List<Path> files) throws IOException;
+    public Path downloadAttachment(Attachment attachment, Path target) throws IOException;
     public boolean userExists(String userName);
     public boolean projectExists(String projectKey);
     public boolean issueTypeExists(String projectKey, String issueType) throws InterruptedException, ExecutionException;
     public boolean issueExists(String issueKey);
+    public Map<String, Boolean> issuesExist(Collection<String> issueKeys);
     boolean commentExists(String issueKey, String comment);
     boolean attachmentExists(String issueKey, String filePath);
     public Project getProject(String projectKey);
     public String getIssueType(String projectKey, String issueType);
     public Iterable<Comment> getComments(String issueKey);
+    public List<CommentMatch> searchComments(String text);
     public Iterable<Attachment> getAttachments(String key);
     public Iterable<IssueField> getFields(String issueKey);
+    public Iterable<IssueField> getFields(String issueKey, Set<String> fields);
+    public Stream<Issue> searchIssues(String jql, Set<String> fields, int pageSize);
 }
\ No newline at end of file
@@ -1,19 +1,23 @@
 package org.jds.services;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URI;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.atlassian.jira.rest.client.api.IssueRestClient;
-import com.atlassian.jira.rest.client.api.JiraRestClient;
-import com.atlassian.jira.rest.client.api.ProjectRestClient;
-import com.atlassian.jira.rest.client.api.UserRestClient;
 import com.atlassian.jira.rest.client.api.domain.Attachment;
 import com.atlassian.jira.rest.client.api.domain.BasicIssue;
 import com.atlassian.jira.rest.client.api.domain.Comment;
@@ -24,7 +28,6 @@ import com.atlassian.jira.rest.client.api.domain.Project;
 import com.atlassian.jira.rest.client.api.domain.User;
 import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
 import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
-import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientFactory;
 import com.atlassian.util.concurrent.Promise;
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,22 +41,40 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JIRAServiceImpl implements JIRAService {
 
-	@Value("${jira.username}")
-	private static final String USERNAME = "dalamar01977";
-
-	@Value("${jira.password}")
-	private static final String PASSWORD = "admin";
-	
-	@Value("${jira.url}")
-	private static final String HTTP_JIRA_URL = "http://127.0.0.1:8081/";
-
-    private URI getJiraUri() {
-        return URI.create(HTTP_JIRA_URL);
-    }
-
-    private JiraRestClient getJiraRestClient() {
-        return new AsynchronousJiraRestClientFactory()
-                .createWithBasicHttpAuthentication(getJiraUri(), USERNAME, PASSWORD);
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment");
+    private static final Set<String> ATTACHMENT_FIELDS = Set.of("attachment");
+
+    private final JiraClientPool clientPool;
+    private final JiraMetadataCache metadataCache;
+    private final JiraBulkIssueCreator bulkIssueCreator;
+    private final JiraIssueSearch issueSearch;
+    private final JiraAttachmentTransfer attachmentTransfer;
+    private final JiraWriteBehindQueue writeBehind;
+    private final JiraIssueStore issueStore;
+    private final JiraExistenceChecks existenceChecks;
+    private final JiraFieldReader fieldReader;
+    private final JiraIssueOperations issueOperations;
+    private final JiraAttachmentIndex attachmentIndex;
+    private final JiraCommentIndex commentIndex;
+
+    public JIRAServiceImpl(JiraClientPool clientPool, JiraMetadataCache metadataCache,
+            JiraBulkIssueCreator bulkIssueCreator, JiraIssueSearch issueSearch,
+            JiraAttachmentTransfer attachmentTransfer, JiraWriteBehindQueue writeBehind,
+            JiraIssueStore issueStore, JiraExistenceChecks existenceChecks, JiraFieldReader fieldReader,
+            JiraIssueOperations issueOperations, JiraAttachmentIndex attachmentIndex,
+            JiraCommentIndex commentIndex) {
+        this.clientPool = clientPool;
+        this.metadataCache = metadataCache;
+        this.bulkIssueCreator = bulkIssueCreator;
+        this.issueSearch = issueSearch;
+        this.attachmentTransfer = attachmentTransfer;
+        this.writeBehind = writeBehind;
+        this.issueStore = issueStore;
+        this.existenceChecks = existenceChecks;
+        this.fieldReader = fieldReader;
+        this.issueOperations = issueOperations;
+        this.attachmentIndex = attachmentIndex;
+        this.commentIndex = commentIndex;
     }
 
     @Override
@@ -61,51 +82,56 @@ public class JIRAServiceImpl implements JIRAService {
             String issueType) throws InterruptedException, ExecutionException {
         log.info("JIRAServiceV9Impl.createIssue()");
 
-        AsynchronousJiraRestClientFactory factory = new AsynchronousJiraRestClientFactory();
-        URI jiraServerUri = URI.create(HTTP_JIRA_URL);
-        JiraRestClient restClient = factory.createWithBasicHttpAuthentication(jiraServerUri, USERNAME, PASSWORD);
-
         // Get Project
-        Promise<Project> projectType = restClient.getProjectClient().getProject(projectKey);
+        CompletableFuture<Project> projectType = metadataCache.getProject(projectKey);
 
         // Get User by name
-        UserRestClient userClient = restClient.getUserClient();
-        Promise<User> user = userClient.getUser(assignee);
+        CompletableFuture<User> user = assignee != null ? metadataCache.getUser(assignee)
+                : CompletableFuture.completedFuture(null);
         User assigneeUser = user.get();
 
-        var issueTypeId = getIssueTypeId(projectType, issueType);
+        var issueTypeId = getIssueTypeId(projectType.get(), issueType);
 
-        final IssueRestClient issueClient = restClient.getIssueClient();
         IssueInput isssue = new IssueInputBuilder(projectKey, issueTypeId, summary)
                 .setDescription(description)
                 .setAssignee(assigneeUser)
                 .build();
 
-        var createIssue = issueClient.createIssue(isssue);
+        var createIssue = clientPool.call(JiraOperation.ISSUE_CREATE, projectKey,
+                client -> client.getIssueClient().createIssue(isssue));
         BasicIssue issue = createIssue.claim();
+        existenceChecks.invalidate(issue.getKey());
         log.info("Created issue: {}", issue.getKey());
         return issue;
     }
 
+    @Override
+    public List<IssueCreationResult> createIssues(List<IssueRequest> issues) {
+        log.info("JIRAServiceV9Impl.createIssues()");
+        return Promises.join(bulkIssueCreator.createIssues(issues));
+    }
+
     @Override
     public Promise<Void> updateIssue(String projectKey, String issueKey, String summary, String description, String assignee,
             String issueType)
             throws InterruptedException, ExecutionException {
         log.info("JIRAServiceV9Impl.updateIssue()");
-        JiraRestClient restClient = getJiraRestClient();
+        // Queue the update without reading anything from Jira
+        if (writeBehind.isEnabled()) {
+            return Promises.toPromise(changed(issueKey, writeBehind.update(projectKey, issueKey, summary,
+                    description, assignee, issueType)));
+        }
 
         // Get Project
-        Promise<Project> projectType = restClient.getProjectClient().getProject(projectKey);
+        CompletableFuture<Project> projectType = metadataCache.getProject(projectKey);
         // Return of project doesn't exist
         if (projectType.get() == null) {
             log.error("Project {} doesn't exist", projectKey);
             return null;
         }
 
-        // Get Issue
-        Promise<Issue> issue = restClient.getIssueClient().getIssue(issueKey);
-        // Return of issue doesn't exist
-        if (issue.get() == null) {
+        // Return of issue doesn't exist, checked without downloading it
+        if (!Promises.join(existenceChecks.issueExists(issueKey))) {
             log.error("Issue {} doesn't exist", issueKey);
             return null;
         }
@@ -113,8 +139,7 @@ public class JIRAServiceImpl implements JIRAService {
         // Get User by name
         User assigneeUser = null;
         if (assignee != null) {
-            UserRestClient userClient = restClient.getUserClient();
-            Promise<User> user = userClient.getUser(assignee);
+            CompletableFuture<User> user = metadataCache.getUser(assignee);
             // Return of user doesn't exist
             if (user.get() == null) {
                 log.error("User {} doesn't exist", assignee);
@@ -123,121 +148,151 @@ public class JIRAServiceImpl implements JIRAService {
             assigneeUser = user.get();
         }
 
-        var issueTypeId = getIssueTypeId(projectType, issueType);
+        var issueTypeId = getIssueTypeId(projectType.get(), issueType);
 
         // Update Issue
-        final IssueRestClient issueClient = restClient.getIssueClient();
         IssueInput isssue = new IssueInputBuilder(projectKey, issueTypeId, summary)
                 .setDescription(description)
                 .setAssignee(assigneeUser)
                 .build();
-        Promise<Void> promise = issueClient.updateIssue(issueKey, isssue);
+        Promise<Void> promise = clientPool.call(JiraOperation.ISSUE_UPDATE, projectKey,
+                client -> client.getIssueClient().updateIssue(issueKey, isssue));
         log.info("Updated issue: {}", issueKey);
-        return promise;
+        return Promises.toPromise(changed(issueKey, Promises.toCompletableFuture(promise)));
     }
 
     @Override
     public void deleteIssue(String issueKey) {
         log.info("JIRAServiceV9Impl.deleteIssue()");
-        JiraRestClient restClient = getJiraRestClient();
-        final IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToDelete = issue.claim();
-        issueClient.deleteIssue(issueToDelete.getKey(), true);
-        log.info("Deleted issue: {}", issueToDelete.getKey());
+        // Delete by key, without reading the issue first
+        Promises.join(issueOperations.delete(issueKey, JiraThrottle.Priority.INTERACTIVE));
+        log.info("Deleted issue: {}", issueKey);
+    }
+
+    @Override
+    public List<IssueOperationResult<Void>> deleteIssues(List<String> issueKeys) {
+        log.info("JIRAServiceV9Impl.deleteIssues()");
+        return Promises.join(issueOperations.deleteIssues(issueKeys));
     }
 
     @Override
     public void addComment(String issueKey, String comment) {
         log.info("JIRAServiceV9Impl.addComment()");
-        JiraRestClient restClient = getJiraRestClient();
-        final IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
+        if (writeBehind.isEnabled()) {
+            issueOperations.comment(issueKey, comment, JiraThrottle.Priority.INTERACTIVE);
+            return;
+        }
+        Promises.join(issueOperations.comment(issueKey, comment, JiraThrottle.Priority.INTERACTIVE));
+        log.info("Added comment to issue: {}", issueKey);
+    }
+
+    @Override
+    public List<IssueOperationResult<Void>> addComments(List<String> issueKeys, String comment) {
+        log.info("JIRAServiceV9Impl.addComments()");
+        return Promises.join(issueOperations.addComments(issueKeys, comment));
+    }
+
+    @Override
+    public Promise<Void> assignIssue(String issueKey, String assignee) {
+        log.info("JIRAServiceV9Impl.assignIssue() - issueKey: {} - assignee: {}", issueKey, assignee);
+        if (writeBehind.isEnabled()) {
+            return Promises.toPromise(changed(issueKey, writeBehind.assign(issueKey, assignee)));
+        }
+        IssueInput input = new IssueInputBuilder().setAssigneeName(assignee).build();
+        return Promises.toPromise(changed(issueKey, Promises.toCompletableFuture(
+                clientPool.call(JiraOperation.ISSUE_UPDATE, JiraMetrics.projectOf(issueKey),
+                        client -> client.getIssueClient().updateIssue(issueKey, input)))));
     }
 
     @Override
     public void addAttachment(String issueKey, String filePath, String filename) throws IOException {
         log.info("JIRAServiceV9Impl.addAttachment() - filePath: {} - filename: {}", filePath,
                 filename);
-        JiraRestClient restClient = getJiraRestClient();
-        final IssueRestClient issueClient = restClient.getIssueClient();
-        // Get Stream from File
-        File file = new File(filePath);
-        InputStream inputStream = new FileInputStream(file);
-        
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
-        // Add Attachment
-        issueClient.addAttachment(issueToGet.getAttachmentsUri(), inputStream, filename);
-        log.info("Added attachment {} to issue: {}", filename, issueToGet.getKey());
+        Path file = Paths.get(filePath);
+        // Default to the file name when no attachment name is given
+        String attachmentName = filename != null ? filename : file.getFileName().toString();
+        // Skipped when the issue already has the content, under any name
+        int uploaded = await(changed(issueKey, attachmentIndex.upload(issueKey, List.of(file),
+                List.of(attachmentName))));
+        log.info("Added {} attachment {} to issue: {}", uploaded, attachmentName, issueKey);
+    }
+
+    @Override
+    public void addAttachments(String issueKey, List<Path> files) throws IOException {
+        log.info("JIRAServiceV9Impl.addAttachments() - issueKey: {} - files: {}", issueKey, files);
+        List<String> filenames = new ArrayList<>(files.size());
+        files.forEach(file -> filenames.add(file.getFileName().toString()));
+        int uploaded = await(changed(issueKey, attachmentIndex.upload(issueKey, files, filenames)));
+        log.info("Added {} of attachments {} to issue: {}", uploaded, files, issueKey);
+    }
+
+    @Override
+    public Path downloadAttachment(Attachment attachment, Path target) throws IOException {
+        log.info("JIRAServiceV9Impl.downloadAttachment() - attachment: {}", attachment.getContentUri());
+        return await(attachmentTransfer.download(attachment, target));
+    }
+
+    // Drop the stored copy of the issue once the write is done
+    private <T> CompletableFuture<T> changed(String issueKey, CompletableFuture<T> write) {
+        return write.whenComplete((ignored, e) -> issueStore.invalidate(issueKey));
+    }
+
+    // Wait for a transfer, surfacing I/O failures as IOException
+    private static <T> T await(CompletableFuture<T> transfer) throws IOException {
+        try {
+            return Promises.join(transfer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     // Check if issue type exists
     @Override
     public boolean issueTypeExists(String projectKey, String issueType) throws InterruptedException, ExecutionException {
-        JiraRestClient restClient = getJiraRestClient();
-        ProjectRestClient projectClient = restClient.getProjectClient();
-        Promise<Project> projectType = projectClient.getProject(projectKey);
-        for (IssueType type : projectType.get().getIssueTypes()) {
-            if (type.getName().equalsIgnoreCase(issueType)) {
-                return true;
-            }
-        }
-        return false;
+        return metadataCache.getIssueType(projectKey, issueType).get() != null;
     }
 
     // Get IssueTypeId
-    private long getIssueTypeId(Promise<Project> projectType, String typeName)
-            throws InterruptedException, ExecutionException {
-        var issueTypeId = 0l;
-        for (IssueType type : (projectType.get()).getIssueTypes()) {
-            if (type.getName().equalsIgnoreCase(typeName)) {
-                issueTypeId = type.getId();
-                break;
-            }
-        }
-        return issueTypeId;
+    private long getIssueTypeId(Project project, String typeName) {
+        IssueType type = JiraMetadataCache.findIssueType(project, typeName);
+        return type != null ? type.getId() : 0L;
     }
 
     // Check if issue exists
     @Override
     public boolean issueExists(String issueKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        issueClient.getIssue(issueKey).claim();
-        return true;
+        return Promises.join(existenceChecks.issueExists(issueKey));
+    }
+
+    // Check which issues exist, with one search per batch of keys
+    @Override
+    public Map<String, Boolean> issuesExist(Collection<String> issueKeys) {
+        return Promises.join(existenceChecks.issuesExist(issueKeys));
     }
 
     // Check if user exists
     @Override
     public boolean userExists(String userName) {
-        JiraRestClient restClient = getJiraRestClient();
-        UserRestClient userClient = restClient.getUserClient();
-        userClient.getUser(userName).claim();
-        return true;
+        return Promises.join(existenceChecks.userExists(userName));
     }
 
     // Check if project exists
     @Override
     public boolean projectExists(String projectKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        ProjectRestClient projectClient = restClient.getProjectClient();
-        projectClient.getProject(projectKey).claim();
-        return true;
+        return Promises.join(existenceChecks.projectExists(projectKey));
     }
 
     // Check if attachment exists
     @Override
     public boolean attachmentExists(String issueKey, String filename) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        var issue = issueClient.getIssue(issueKey).claim();
-        Promise<Issue> issuePromise = issueClient.getIssue(issue.getKey());
-        Issue issueToGet = issuePromise.claim();
-        Iterable<Attachment> attachments = issueToGet.getAttachments();
+        // A local file is first looked up by its content, without asking Jira
+        if (attachmentIndex.isEnabled()) {
+            Path file = localFile(filename);
+            if (file != null && Promises.join(attachmentIndex.contains(issueKey, file))) {
+                return true;
+            }
+        }
+        Iterable<Attachment> attachments = getAttachments(issueKey);
         for (Attachment attachment : attachments) {
             log.info("Got attachment: {}", attachment.getFilename());
             if (attachment.getFilename().contains(filename)) {
@@ -247,26 +302,63 @@ public class JIRAServiceImpl implements JIRAService {
         return false;
     }
 
-    // Get Issue by Key
+    // The file the name points to, null when it isn't a path to a local file, e.g. a part of a name
+    private static Path localFile(String filename) {
+        try {
+            Path file = Paths.get(filename);
+            return Files.isRegularFile(file) ? file : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    // Get Issue by Key, from the issue store when it is enabled
     @Override
     public Issue getIssue(String issueKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToGet = issue.claim();
+        Issue issueToGet = Promises.join(issueStore.get(issueKey));
         log.info("Got issue: {}", issueToGet.getKey());
         return issueToGet;
     }
 
-    // Check if comment exists
+    // Get Issues by Key, in the order of the keys
     @Override
-    public boolean commentExists(String issueKey, String comment) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
+    public List<IssueOperationResult<Issue>> getIssues(List<String> issueKeys) {
+        return Promises.join(issueOperations.getIssues(issueKeys));
+    }
+
+    // Get Issue by Key with only the given fields
+    @Override
+    public Issue getIssue(String issueKey, Set<String> fields) {
+        Issue issueToGet = Promises.join(issueSearch.findIssue(issueKey, fields));
+        log.info("Got issue: {} - fields: {}", issueToGet.getKey(), fields);
+        return issueToGet;
+    }
+
+    // Get Issue by Key with expanded sections
+    @Override
+    public Issue getIssue(String issueKey, Iterable<IssueRestClient.Expand> expand) {
+        Promise<Issue> issue = clientPool.call(JiraOperation.ISSUE_GET, JiraMetrics.projectOf(issueKey),
+                client -> client.getIssueClient().getIssue(issueKey, expand));
         Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
-        Iterable<Comment> comments = issueToGet.getComments();
+        log.info("Got issue: {} - expand: {}", issueToGet.getKey(), expand);
+        return issueToGet;
+    }
+
+    // Check if comment exists, in the comment index first when it is on
+    @Override
+    public boolean commentExists(String issueKey, String comment) {
+        if (commentIndex.isEnabled()) {
+            if (commentIndex.contains(issueKey, comment)) {
+                return true;
+            }
+            if (commentIndex.isCurrent(issueKey)) {
+                return false;
+            }
+            // Reading the comments indexes them
+            getComments(issueKey);
+            return commentIndex.contains(issueKey, comment);
+        }
+        Iterable<Comment> comments = getComments(issueKey);
         for (Comment commentToGet : comments) {
             if (commentToGet.getBody().contains(comment)) {
                 return true;
@@ -278,10 +370,7 @@ public class JIRAServiceImpl implements JIRAService {
     // Get Project by Key
     @Override
     public Project getProject(String projectKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        ProjectRestClient projectClient = restClient.getProjectClient();
-        Promise<Project> project = projectClient.getProject(projectKey);
-        Project projectToGet = project.claim();
+        Project projectToGet = Promises.join(metadataCache.getProject(projectKey));
         log.info("Got project: {}", projectToGet.getKey());
         return projectToGet;
     }
@@ -289,51 +378,70 @@ public class JIRAServiceImpl implements JIRAService {
     // Get Issue Type
     @Override
     public String getIssueType(String projectKey, String issueType) {
-        JiraRestClient restClient = getJiraRestClient();
-        ProjectRestClient projectClient = restClient.getProjectClient();
-        Promise<Project> project = projectClient.getProject(projectKey);
-        Project projectToGet = project.claim();
-        log.info("Got project: {}", projectToGet.getKey());
-        for (IssueType type : projectToGet.getIssueTypes()) {
-            if (type.getName().equalsIgnoreCase(issueType)) {
-                log.info("Got issue type: {}", type.getName());
-                return type.getName();
-            }
+        IssueType type = Promises.join(metadataCache.getIssueType(projectKey, issueType));
+        if (type == null) {
+            return null;
         }
-        return null;
+        log.info("Got issue type: {}", type.getName());
+        return type.getName();
     }
 
-    // Get comments for an issue
+    // Get comments for an issue, a stored issue already has them
     @Override
     public Iterable<Comment> getComments(String issueKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
-        return issueToGet.getComments();
+        Iterable<Comment> comments = issueStore.isEnabled() ? getIssue(issueKey).getComments()
+                : getIssue(issueKey, COMMENT_FIELDS).getComments();
+        commentIndex.index(issueKey, comments);
+        return comments;
+    }
+
+    // Comments containing the text, among the comments read or posted so far
+    @Override
+    public List<CommentMatch> searchComments(String text) {
+        return commentIndex.search(text);
     }
 
     // Get attachments for an issue
     @Override
     public Iterable<Attachment> getAttachments(String key) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(key);
-        Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
-        return issueToGet.getAttachments();
+        if (issueStore.isEnabled()) {
+            return getIssue(key).getAttachments();
+        }
+        return getIssue(key, ATTACHMENT_FIELDS).getAttachments();
     }
 
-    // Get fields for an issue
+    // Get fields for an issue, without the domain graph of the issue when streaming is on
     @Override
     public Iterable<IssueField> getFields(String issueKey) {
-        JiraRestClient restClient = getJiraRestClient();
-        IssueRestClient issueClient = restClient.getIssueClient();
-        Promise<Issue> issue = issueClient.getIssue(issueKey);
-        Issue issueToGet = issue.claim();
-        log.info("Got issue: {}", issueToGet.getKey());
-        return issueToGet.getFields();
+        if (fieldReader.isEnabled() && !issueStore.isEnabled()) {
+            return Promises.join(fieldReader.getFields(issueKey, null));
+        }
+        return getIssue(issueKey).getFields();
+    }
+
+    // Get only the given fields for an issue
+    @Override
+    public Iterable<IssueField> getFields(String issueKey, Set<String> fields) {
+        if (issueStore.isEnabled()) {
+            List<IssueField> projected = new ArrayList<>(fields.size());
+            for (IssueField field : getIssue(issueKey).getFields()) {
+                if (fields.contains(field.getId())) {
+                    projected.add(field);
+                }
+            }
+            return projected;
+        }
+        if (fieldReader.isEnabled()) {
+            return Promises.join(fieldReader.getFields(issueKey, fields));
+        }
+        return getIssue(issueKey, fields).getFields();
+    }
+
+    // Search issues by JQL, lazily paging through the results
+    @Override
+    public Stream<Issue> searchIssues(String jql, Set<String> fields, int pageSize) {
+        log.info("JIRAServiceV9Impl.searchIssues() - jql: {}", jql);
+        return issueSearch.stream(jql, fields, pageSize);
     }
 
 }
\ No newline at end of file
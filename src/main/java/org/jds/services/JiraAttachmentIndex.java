@@ -0,0 +1,324 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers the SHA-256 of the content of every attachment uploaded to an issue,
+ * so uploading content the issue already has is skipped, whatever the file is
+ * named. Files are hashed while the upload streams them. Only a file the same
+ * size as an indexed attachment of the issue, or as another file of the upload,
+ * can be a duplicate: that file is hashed before the upload decides on it. The
+ * digest of an unchanged file (same path, size and modification time) is kept
+ * in memory, so it is not hashed again.
+ * <p>
+ * Before the index is trusted, the issue's current attachments are read from
+ * Jira, and entries for attachments removed there are dropped. Uploads to the
+ * same issue run one after the other, so content being uploaded is seen by the
+ * next upload of it. The webhook and issue deletes also forget attachments.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraAttachmentIndex implements DisposableBean {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Set<String> ATTACHMENT_FIELDS = Set.of("attachment");
+
+    private final JiraAttachmentTransfer attachmentTransfer;
+    private final JiraIssueSearch issueSearch;
+    private final JiraProperties.AttachmentIndex settings;
+    private final AttachmentDigestFile digests;
+    private final Cache<FileVersion, String> fileDigests;
+    // Last upload to each issue, the next one starts once it is done
+    private final ConcurrentHashMap<String, CompletableFuture<Integer>> uploads = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final Counter skipped;
+    private final Counter skippedBytes;
+
+    public JiraAttachmentIndex(JiraAttachmentTransfer attachmentTransfer, JiraIssueSearch issueSearch,
+            JiraProperties properties, JiraMetrics metrics) throws IOException {
+        this.attachmentTransfer = attachmentTransfer;
+        this.issueSearch = issueSearch;
+        this.settings = properties.getAttachmentIndex();
+        this.digests = new AttachmentDigestFile(Paths.get(settings.getFile()));
+        this.fileDigests = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxFileDigests())
+                .build();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, settings.getHashThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "jira-attachment-hash-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.skipped = metrics.getRegistry().counter("jira.attachments.skipped");
+        this.skippedBytes = metrics.getRegistry().counter("jira.attachments.skipped.bytes");
+        if (settings.isEnabled()) {
+            digests.open();
+        }
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    // Upload the files whose content the issue doesn't have yet, returns how many were uploaded
+    public CompletableFuture<Integer> upload(String issueKey, List<Path> files, List<String> filenames) {
+        if (!settings.isEnabled()) {
+            return attachmentTransfer.upload(issueKey, files, filenames).thenApply(ids -> files.size());
+        }
+        String key = normalize(issueKey);
+        CompletableFuture<Integer> upload = uploads.compute(key, (ignored, previous) ->
+                (previous != null ? previous.handle((uploaded, e) -> null) : CompletableFuture.completedFuture(null))
+                        .thenComposeAsync(done -> uploadNew(key, files, filenames), executor));
+        upload.whenComplete((uploaded, e) -> uploads.remove(key, upload));
+        return upload;
+    }
+
+    private CompletableFuture<Integer> uploadNew(String issueKey, List<Path> files, List<String> filenames) {
+        return indexed(issueKey)
+                .thenApplyAsync(indexed -> select(issueKey, files, filenames, indexed), executor)
+                .thenCompose(selected -> {
+                    if (selected.isEmpty()) {
+                        return CompletableFuture.completedFuture(0);
+                    }
+                    List<Path> uploads = new ArrayList<>(selected.size());
+                    List<String> names = new ArrayList<>(selected.size());
+                    selected.forEach(upload -> {
+                        uploads.add(upload.getFile());
+                        names.add(upload.getFilename());
+                    });
+                    return send(issueKey, uploads, names).thenApply(uploaded -> {
+                        record(issueKey, selected, uploaded);
+                        return selected.size();
+                    });
+                });
+    }
+
+    CompletableFuture<JiraAttachmentTransfer.HashedUpload> send(String issueKey, List<Path> files,
+            List<String> filenames) {
+        return attachmentTransfer.uploadHashed(issueKey, files, filenames);
+    }
+
+    // Content digest to size of the indexed attachments the issue still has in Jira
+    private CompletableFuture<Map<String, Long>> indexed(String issueKey) {
+        Map<String, Long> entries;
+        synchronized (this) {
+            entries = digests.attachments(issueKey);
+        }
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return attachments(issueKey).thenApply(attachments -> {
+            Map<Long, Long> sizes = new HashMap<>();
+            if (attachments != null) {
+                attachments.forEach(attachment -> sizes.put(attachmentId(attachment), (long) attachment.getSize()));
+            }
+            Map<String, Long> indexed = new HashMap<>();
+            entries.forEach((digest, attachmentId) -> {
+                Long size = sizes.get(attachmentId);
+                if (size != null) {
+                    indexed.put(digest, size);
+                } else {
+                    log.info("Attachment {} of {} was removed in Jira, dropping it from the index", attachmentId,
+                            issueKey);
+                    forget(issueKey, attachmentId);
+                }
+            });
+            return indexed;
+        });
+    }
+
+    // Current attachments of the issue in Jira
+    CompletableFuture<Iterable<Attachment>> attachments(String issueKey) {
+        return issueSearch.findIssue(issueKey, ATTACHMENT_FIELDS).thenApply(Issue::getAttachments);
+    }
+
+    // The id ends the attachment's self URI, .../rest/api/2/attachment/{id}
+    static long attachmentId(Attachment attachment) {
+        String path = attachment.getSelf().getPath();
+        return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    // Files with content new to the issue, each distinct content once
+    private List<Upload> select(String issueKey, List<Path> files, List<String> filenames,
+            Map<String, Long> indexed) {
+        List<FileVersion> versions = new ArrayList<>(files.size());
+        Map<Long, Integer> sizes = new HashMap<>();
+        indexed.values().forEach(size -> sizes.merge(size, 1, Integer::sum));
+        for (Path file : files) {
+            FileVersion version = version(file);
+            versions.add(version);
+            sizes.merge(version.getSize(), 1, Integer::sum);
+        }
+        List<Upload> selected = new ArrayList<>(files.size());
+        Set<String> seen = new HashSet<>();
+        for (int index = 0; index < files.size(); index++) {
+            Path file = files.get(index);
+            FileVersion version = versions.get(index);
+            // A size nothing else has can't be a duplicate, the upload hashes it
+            if (sizes.get(version.getSize()) > 1) {
+                String digest = digest(version);
+                if (indexed.containsKey(digest) || !seen.add(digest)) {
+                    log.info("Skipping upload of {} to {}, the issue already has its content", file, issueKey);
+                    skipped.increment();
+                    skippedBytes.increment(version.getSize());
+                    continue;
+                }
+            }
+            selected.add(new Upload(file, filenames.get(index), version));
+        }
+        return selected;
+    }
+
+    private synchronized void record(String issueKey, List<Upload> uploaded,
+            JiraAttachmentTransfer.HashedUpload result) {
+        List<Long> attachmentIds = result.getAttachmentIds();
+        if (attachmentIds.size() != uploaded.size()) {
+            log.warn("Jira reported {} attachments for {} uploads to {}, not indexing them", attachmentIds.size(),
+                    uploaded.size(), issueKey);
+            return;
+        }
+        try {
+            for (int index = 0; index < uploaded.size(); index++) {
+                String digest = result.getDigests().get(index);
+                fileDigests.put(uploaded.get(index).getVersion(), digest);
+                digests.put(issueKey, digest, attachmentIds.get(index));
+            }
+        } catch (IOException e) {
+            log.error("Failed to index the attachments uploaded to {}", issueKey, e);
+        }
+    }
+
+    // Whether the issue has an attachment with the content of the file, checked against Jira on a hit
+    public CompletableFuture<Boolean> contains(String issueKey, Path file) {
+        String key = normalize(issueKey);
+        return CompletableFuture.supplyAsync(() -> digest(version(file)), executor).thenCompose(digest -> {
+            synchronized (this) {
+                if (digests.get(key, digest) == null) {
+                    return CompletableFuture.completedFuture(false);
+                }
+            }
+            return indexed(key).thenApply(indexed -> indexed.containsKey(digest));
+        });
+    }
+
+    // The issue is gone, or its attachments can no longer be trusted
+    public synchronized void forget(String issueKey) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        try {
+            digests.remove(normalize(issueKey));
+        } catch (IOException e) {
+            log.error("Failed to drop the attachments of {} from the index", issueKey, e);
+        }
+    }
+
+    public synchronized void forget(String issueKey, long attachmentId) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        try {
+            digests.remove(normalize(issueKey), attachmentId);
+        } catch (IOException e) {
+            log.error("Failed to drop attachment {} of {} from the index", attachmentId, issueKey, e);
+        }
+    }
+
+    private static FileVersion version(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileVersion(file.toAbsolutePath().normalize(), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the attributes of " + file, e);
+        }
+    }
+
+    private String digest(FileVersion version) {
+        return fileDigests.get(version, ignored -> {
+            try {
+                return sha256(version.getFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to hash " + version.getFile(), e);
+            }
+        });
+    }
+
+    // Hex SHA-256 of the file, read through a direct buffer
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest = JiraAttachmentTransfer.sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return JiraAttachmentTransfer.hex(digest);
+    }
+
+    private static String normalize(String issueKey) {
+        return issueKey.toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        executor.shutdownNow();
+        digests.close();
+    }
+
+    @Value
+    private static class FileVersion {
+        Path file;
+        long size;
+        long modified;
+    }
+
+    @Value
+    private static class Upload {
+        Path file;
+        String filename;
+        FileVersion version;
+    }
+
+}
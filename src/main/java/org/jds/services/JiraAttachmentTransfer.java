@@ -0,0 +1,374 @@
+package org.jds.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams attachments between disk and Jira without holding file contents on the
+ * heap. The Jira client buffers whole entities in memory (and caps them at 100 MB),
+ * so transfers use the JDK client of {@link JiraHttpTransport}: uploads read the files through their
+ * {@link FileChannel}s while the multipart body is sent, hashing them on the way,
+ * and downloads are written straight to the target file. A download saved under the attachment's own name
+ * never leaves the target directory, and a failed one leaves no partial file.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraAttachmentTransfer {
+
+    private static final String CRLF = "\r\n";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JiraHttpTransport transport;
+    private final String authorization;
+    private final HttpClient httpClient;
+    private final JiraMetrics metrics;
+    private final JiraThrottle throttle;
+    private final JiraResilience resilience;
+
+    public JiraAttachmentTransfer(JiraHttpTransport transport, JiraMetrics metrics, JiraThrottle throttle,
+            JiraResilience resilience) {
+        this.transport = transport;
+        this.metrics = metrics;
+        this.throttle = throttle;
+        this.resilience = resilience;
+        this.authorization = transport.getAuthorization();
+        this.httpClient = transport.getHttpClient();
+    }
+
+    // Upload one file under the given attachment name
+    public CompletableFuture<Void> upload(String issueKey, Path file, String filename) {
+        return upload(issueKey, List.of(file), List.of(filename)).thenApply(ids -> null);
+    }
+
+    // Upload several files to an issue in a single multipart request
+    public CompletableFuture<Void> upload(String issueKey, List<Path> files) {
+        List<String> filenames = new ArrayList<>(files.size());
+        files.forEach(file -> filenames.add(file.getFileName().toString()));
+        return upload(issueKey, files, filenames).thenApply(ids -> null);
+    }
+
+    // Upload files under the given names, returning the ids Jira gave the attachments in the same order
+    public CompletableFuture<List<Long>> upload(String issueKey, List<Path> files, List<String> filenames) {
+        return uploadHashed(issueKey, files, filenames).thenApply(HashedUpload::getAttachmentIds);
+    }
+
+    // Upload the files, with the SHA-256 of each file's content computed while it is sent
+    CompletableFuture<HashedUpload> uploadHashed(String issueKey, List<Path> files, List<String> filenames) {
+        log.info("JiraAttachmentTransfer.upload() - issueKey: {} - files: {}", issueKey, files.size());
+        return resilience.execute(JiraOperation.ATTACHMENT_UPLOAD, () -> throttle.execute(
+                JiraOperation.ATTACHMENT_UPLOAD, JiraThrottle.Priority.INTERACTIVE,
+                () -> send(issueKey, files, filenames)));
+    }
+
+    // Each attempt streams, and hashes, the files again
+    private CompletableFuture<HashedUpload> send(String issueKey, List<Path> files, List<String> filenames) {
+        String boundary = "jira-" + UUID.randomUUID();
+        List<InputStream> opened = new CopyOnWriteArrayList<>();
+        MessageDigest[] digests = new MessageDigest[files.size()];
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(transport.resolve("rest/api/2/issue/" + issueKey + "/attachments"))
+                    .header("Authorization", authorization)
+                    .header("X-Atlassian-Token", "no-check")
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(multipartBody(boundary, files, filenames, opened, digests))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Timer.Sample sample = metrics.start(JiraOperation.ATTACHMENT_UPLOAD);
+        CompletableFuture<HashedUpload> upload = httpClient.sendAsync(request,
+                HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, e) -> closeAll(opened))
+                .thenApply(response -> {
+                    checkStatus(response, "Upload to " + issueKey);
+                    log.info("Added {} attachments to issue: {}", files.size(), issueKey);
+                    // Jira read the whole body before answering, so every file went through its digest
+                    List<String> hashes = new ArrayList<>(digests.length);
+                    for (MessageDigest digest : digests) {
+                        hashes.add(digest != null ? hex(digest) : null);
+                    }
+                    return new HashedUpload(attachmentIds(response.body()), hashes);
+                });
+        return upload.whenComplete((ignored, e) -> metrics.stop(sample, JiraOperation.ATTACHMENT_UPLOAD,
+                JiraMetrics.projectOf(issueKey), e));
+    }
+
+    // Download an attachment to the target file, or into the target directory under its own name
+    public CompletableFuture<Path> download(Attachment attachment, Path target) {
+        Path file;
+        try {
+            file = Files.isDirectory(target) ? fileIn(target, attachment.getFilename()) : target;
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        log.info("JiraAttachmentTransfer.download() - attachment: {} - target: {}", attachment.getFilename(), file);
+        HttpRequest request = HttpRequest.newBuilder(attachment.getContentUri())
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        return resilience.execute(JiraOperation.ATTACHMENT_DOWNLOAD, () -> throttle.execute(
+                JiraOperation.ATTACHMENT_DOWNLOAD, JiraThrottle.Priority.INTERACTIVE, () -> {
+                    Timer.Sample sample = metrics.start(JiraOperation.ATTACHMENT_DOWNLOAD);
+                    // Only an answered download touches the file, error answers leave it as it was
+                    AtomicBoolean written = new AtomicBoolean();
+                    HttpResponse.BodyHandler<Path> handler = info -> {
+                        if (info.statusCode() / 100 != 2) {
+                            return HttpResponse.BodySubscribers.replacing(null);
+                        }
+                        written.set(true);
+                        return HttpResponse.BodySubscribers.ofFile(file, StandardOpenOption.CREATE,
+                                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                    };
+                    return httpClient.sendAsync(request, handler)
+                            .thenApply(response -> {
+                                checkStatus(response, "Download of " + attachment.getContentUri());
+                                log.info("Downloaded attachment {} to {}", attachment.getFilename(), file);
+                                return response.body();
+                            })
+                            .whenComplete((path, e) -> {
+                                if (e != null && written.get()) {
+                                    deletePartial(file);
+                                }
+                                metrics.stop(sample, JiraOperation.ATTACHMENT_DOWNLOAD, null, e);
+                            });
+                }));
+    }
+
+    // The attachment name as a file directly in the directory, Jira's names are not trusted to stay in it
+    static Path fileIn(Path directory, String filename) {
+        Path name;
+        try {
+            name = filename != null ? Path.of(filename).getFileName() : null;
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Attachment name " + filename + " is not a valid file name", e);
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("Attachment name " + filename + " is not a valid file name");
+        }
+        Path base = directory.toAbsolutePath().normalize();
+        Path file = base.resolve(name).normalize();
+        if (!file.startsWith(base) || file.equals(base)) {
+            throw new IllegalArgumentException("Attachment name " + filename + " leaves " + directory);
+        }
+        return file;
+    }
+
+    private static void deletePartial(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete the partial download {}", file, e);
+        }
+    }
+
+    // The content of an attachment as Jira sends it, once the headers are in; the caller closes the stream
+    public CompletableFuture<InputStream> open(Attachment attachment) {
+        log.info("JiraAttachmentTransfer.open() - attachment: {}", attachment.getFilename());
+        HttpRequest request = HttpRequest.newBuilder(attachment.getContentUri())
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        return resilience.execute(JiraOperation.ATTACHMENT_DOWNLOAD, () -> throttle.execute(
+                JiraOperation.ATTACHMENT_DOWNLOAD, JiraThrottle.Priority.INTERACTIVE, () -> {
+                    Timer.Sample sample = metrics.start(JiraOperation.ATTACHMENT_DOWNLOAD);
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                            .thenApply(response -> {
+                                if (response.statusCode() / 100 != 2) {
+                                    closeAll(List.of(response.body()));
+                                }
+                                checkStatus(response, "Download of " + attachment.getContentUri());
+                                return response.body();
+                            })
+                            .whenComplete((stream, e) -> metrics.stop(sample, JiraOperation.ATTACHMENT_DOWNLOAD,
+                                    null, e));
+                }));
+    }
+
+    static void checkStatus(HttpResponse<?> response, String operation) {
+        if (response.statusCode() / 100 != 2) {
+            throw new UncheckedIOException(new JiraHttpException(operation, response.statusCode(),
+                    JiraErrors.parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null)),
+                    response.body() instanceof byte[] ? errorMessages((byte[]) response.body()) : List.of()));
+        }
+    }
+
+    // Jira errors are {"errorMessages": [...], "errors": {"field": "message"}}
+    static List<String> errorMessages(byte[] body) {
+        List<String> messages = new ArrayList<>();
+        try {
+            JsonNode errors = MAPPER.readTree(body);
+            errors.path("errorMessages").forEach(message -> messages.add(message.asText()));
+            errors.path("errors").forEach(message -> messages.add(message.asText()));
+        } catch (IOException e) {
+            // Not a Jira error body, e.g. a proxy's HTML page
+        }
+        return messages;
+    }
+
+    // Jira answers with the created attachments
+    private static List<Long> attachmentIds(byte[] body) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (JsonNode attachment : MAPPER.readTree(body)) {
+                ids.add(attachment.path("id").asLong());
+            }
+        } catch (IOException e) {
+            log.warn("Unreadable answer to an attachment upload", e);
+        }
+        return ids;
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String hex(MessageDigest digest) {
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    // The Content-Length is known upfront, file parts are opened lazily while the body is written
+    private static HttpRequest.BodyPublisher multipartBody(String boundary, List<Path> files, List<String> filenames,
+            List<InputStream> opened, MessageDigest[] digests) throws IOException {
+        List<Part> parts = new ArrayList<>();
+        long length = 0;
+        for (int index = 0; index < files.size(); index++) {
+            Path file = files.get(index);
+            String filename = quoted(filenames.get(index));
+            byte[] header = ("--" + boundary + CRLF
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"" + CRLF
+                    + "Content-Type: application/octet-stream" + CRLF + CRLF).getBytes(StandardCharsets.UTF_8);
+            parts.add(new Part(header));
+            parts.add(new Part(file, digests, index));
+            parts.add(new Part(CRLF.getBytes(StandardCharsets.UTF_8)));
+            length += header.length + Files.size(file) + CRLF.length();
+        }
+        byte[] closing = ("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8);
+        parts.add(new Part(closing));
+        length += closing.length;
+
+        return HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofInputStream(() -> {
+            Enumeration<InputStream> streams = new Enumeration<>() {
+                private int next;
+
+                @Override
+                public boolean hasMoreElements() {
+                    return next < parts.size();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    InputStream stream = parts.get(next++).open();
+                    opened.add(stream);
+                    return stream;
+                }
+            };
+            return new SequenceInputStream(streams);
+        }), length);
+    }
+
+    // Quotes and line breaks are percent-encoded in multipart file names, as browsers send them
+    static String quoted(String filename) {
+        return filename.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    private static void closeAll(List<InputStream> streams) {
+        for (InputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                log.warn("Failed to close attachment stream", e);
+            }
+        }
+    }
+
+    private static class Part {
+        private final byte[] bytes;
+        private final Path file;
+        private final MessageDigest[] digests;
+        private final int index;
+
+        private Part(byte[] bytes) {
+            this(bytes, null, null, -1);
+        }
+
+        private Part(Path file, MessageDigest[] digests, int index) {
+            this(null, file, digests, index);
+        }
+
+        private Part(byte[] bytes, Path file, MessageDigest[] digests, int index) {
+            this.bytes = bytes;
+            this.file = file;
+            this.digests = digests;
+            this.index = index;
+        }
+
+        // A file is hashed afresh each time the body is written
+        private InputStream open() {
+            if (bytes != null) {
+                return new ByteArrayInputStream(bytes);
+            }
+            try {
+                MessageDigest digest = sha256();
+                digests[index] = digest;
+                return new DigestInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)),
+                        digest);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Ids of the created attachments and SHA-256 of the files, both in the order of the files
+    @Value
+    static class HashedUpload {
+        List<Long> attachmentIds;
+        List<String> digests;
+    }
+
+}
@@ -0,0 +1,244 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+import com.atlassian.jira.rest.client.api.domain.BulkOperationErrorResult;
+import com.atlassian.jira.rest.client.api.domain.BulkOperationResult;
+import com.atlassian.jira.rest.client.api.domain.IssueType;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates many issues through Jira's bulk create endpoint. Projects and users are
+ * resolved once per distinct key, inputs are split into batches and at most
+ * {@code jira.bulk.parallelism} batches are in flight at any time. Requests naming
+ * a project or user Jira doesn't know fail as such; when the lookup itself failed
+ * (after the retries of {@link JiraResilience}) they fail with that error instead.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraBulkIssueCreator {
+
+    private final JiraClientPool clientPool;
+    private final JiraMetadataCache metadataCache;
+    private final JiraExistenceChecks existenceChecks;
+    private final JiraProperties.Bulk settings;
+
+    public JiraBulkIssueCreator(JiraClientPool clientPool, JiraMetadataCache metadataCache,
+            JiraExistenceChecks existenceChecks, JiraProperties properties) {
+        this.clientPool = clientPool;
+        this.metadataCache = metadataCache;
+        this.existenceChecks = existenceChecks;
+        this.settings = properties.getBulk();
+    }
+
+    // Results are returned in the same order as the requests
+    public CompletableFuture<List<IssueCreationResult>> createIssues(List<IssueRequest> requests) {
+        log.info("JiraBulkIssueCreator.createIssues() - issues: {}", requests.size());
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Set<String> projectKeys = new HashSet<>();
+        Set<String> userNames = new HashSet<>();
+        for (IssueRequest request : requests) {
+            projectKeys.add(request.getProjectKey());
+            if (request.getAssignee() != null) {
+                userNames.add(request.getAssignee());
+            }
+        }
+        Map<String, CompletableFuture<Project>> projects = new HashMap<>();
+        projectKeys.forEach(key -> projects.put(key, metadataCache.getProject(key)));
+        Map<String, CompletableFuture<User>> users = new HashMap<>();
+        userNames.forEach(name -> users.put(name, metadataCache.getUser(name)));
+
+        List<CompletableFuture<?>> lookups = new ArrayList<>(projects.values());
+        lookups.addAll(users.values());
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, e) -> prepare(requests, projects, users))
+                .thenCompose(this::submit);
+    }
+
+    private BulkJob prepare(List<IssueRequest> requests, Map<String, CompletableFuture<Project>> projects,
+            Map<String, CompletableFuture<User>> users) {
+        BulkJob job = new BulkJob(requests);
+        List<Integer> indexes = new ArrayList<>();
+        List<IssueInput> inputs = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            IssueRequest request = requests.get(index);
+            CompletableFuture<Project> project = projects.get(request.getProjectKey());
+            if (project.isCompletedExceptionally()) {
+                job.fail(index, lookupError("Project", request.getProjectKey(), project));
+                continue;
+            }
+            User assignee = null;
+            if (request.getAssignee() != null) {
+                CompletableFuture<User> user = users.get(request.getAssignee());
+                if (user.isCompletedExceptionally()) {
+                    job.fail(index, lookupError("User", request.getAssignee(), user));
+                    continue;
+                }
+                assignee = user.join();
+            }
+            IssueType type = JiraMetadataCache.findIssueType(project.join(), request.getIssueType());
+            if (type == null) {
+                job.fail(index, "Issue type " + request.getIssueType() + " doesn't exist in project "
+                        + request.getProjectKey());
+                continue;
+            }
+            indexes.add(index);
+            inputs.add(new IssueInputBuilder(request.getProjectKey(), type.getId(), request.getSummary())
+                    .setDescription(request.getDescription())
+                    .setAssignee(assignee)
+                    .build());
+            if (inputs.size() == settings.getBatchSize()) {
+                job.batches.add(new Batch(indexes, inputs));
+                indexes = new ArrayList<>();
+                inputs = new ArrayList<>();
+            }
+        }
+        if (!inputs.isEmpty()) {
+            job.batches.add(new Batch(indexes, inputs));
+        }
+        return job;
+    }
+
+    // Only a 404 means it doesn't exist, any other failure says nothing about it
+    private static String lookupError(String type, String key, CompletableFuture<?> lookup) {
+        Throwable failure = JiraErrors.unwrap(lookup.handle((ignored, e) -> e).join());
+        if (JiraErrors.isNotFound(failure)) {
+            return type + " " + key + " doesn't exist";
+        }
+        return "Failed to look up " + type.toLowerCase(Locale.ROOT) + " " + key + ": " + failure.getMessage();
+    }
+
+    private CompletableFuture<List<IssueCreationResult>> submit(BulkJob job) {
+        Iterator<Batch> pending = job.batches.iterator();
+        int lanes = Math.max(1, Math.min(settings.getParallelism(), job.batches.size()));
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            workers[lane] = nextBatch(job, pending);
+        }
+        return CompletableFuture.allOf(workers).thenApply(ignored -> job.results());
+    }
+
+    // Each lane sends one batch at a time and picks up the next one when it completes
+    private CompletableFuture<Void> nextBatch(BulkJob job, Iterator<Batch> pending) {
+        Batch batch;
+        synchronized (pending) {
+            if (!pending.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            batch = pending.next();
+        }
+        return create(batch.inputs).handle((result, e) -> {
+            if (e != null) {
+                log.error("Bulk create of {} issues failed", batch.indexes.size(), e);
+                batch.indexes.forEach(index -> job.fail(index, String.valueOf(e.getMessage())));
+            } else {
+                complete(job, batch, result);
+            }
+            return null;
+        }).thenCompose(ignored -> nextBatch(job, pending));
+    }
+
+    // One bulk create request
+    CompletableFuture<BulkOperationResult<BasicIssue>> create(List<IssueInput> inputs) {
+        try {
+            return Promises.toCompletableFuture(
+                    clientPool.call(JiraOperation.ISSUE_BULK_CREATE, null, JiraThrottle.Priority.BATCH,
+                            client -> client.getIssueClient().createIssues(inputs)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Jira reports failures by position within the batch, created issues follow the remaining positions
+    private void complete(BulkJob job, Batch batch, BulkOperationResult<BasicIssue> result) {
+        Map<Integer, String> errors = new HashMap<>();
+        if (result.getErrors() != null) {
+            for (BulkOperationErrorResult error : result.getErrors()) {
+                errors.put(error.getFailedElementNumber(), String.valueOf(error.getElementErrors()));
+            }
+        }
+        Iterator<BasicIssue> issues = result.getIssues() != null ? result.getIssues().iterator()
+                : Collections.<BasicIssue>emptyIterator();
+        for (int position = 0; position < batch.indexes.size(); position++) {
+            int index = batch.indexes.get(position);
+            String error = errors.get(position);
+            if (error != null) {
+                job.fail(index, error);
+            } else if (issues.hasNext()) {
+                BasicIssue issue = issues.next();
+                existenceChecks.invalidate(issue.getKey());
+                job.succeed(index, issue);
+            } else {
+                job.fail(index, "Jira did not report a result for this issue");
+            }
+        }
+        log.info("Bulk created {} of {} issues", batch.indexes.size() - errors.size(), batch.indexes.size());
+    }
+
+    private static class Batch {
+        private final List<Integer> indexes;
+        private final List<IssueInput> inputs;
+
+        private Batch(List<Integer> indexes, List<IssueInput> inputs) {
+            this.indexes = indexes;
+            this.inputs = inputs;
+        }
+    }
+
+    private static class BulkJob {
+        private final List<IssueRequest> requests;
+        private final AtomicReferenceArray<IssueCreationResult> results;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final List<Batch> batches = new ArrayList<>();
+
+        private BulkJob(List<IssueRequest> requests) {
+            this.requests = requests;
+            this.results = new AtomicReferenceArray<>(requests.size());
+        }
+
+        private void succeed(int index, BasicIssue issue) {
+            results.set(index, IssueCreationResult.success(index, requests.get(index), issue));
+        }
+
+        private void fail(int index, String error) {
+            failures.incrementAndGet();
+            results.set(index, IssueCreationResult.failure(index, requests.get(index), error));
+        }
+
+        private List<IssueCreationResult> results() {
+            List<IssueCreationResult> list = new ArrayList<>(results.length());
+            for (int index = 0; index < results.length(); index++) {
+                list.add(results.get(index));
+            }
+            log.info("Bulk creation finished - issues: {} - failures: {}", list.size(), failures.get());
+            return list;
+        }
+    }
+
+}
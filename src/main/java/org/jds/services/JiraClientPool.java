@@ -0,0 +1,292 @@
+package org.jds.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Date;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.event.api.EventPublisher;
+import com.atlassian.httpclient.api.HttpClient;
+import com.atlassian.httpclient.api.factory.HttpClientOptions;
+import com.atlassian.httpclient.apache.httpcomponents.DefaultHttpClientFactory;
+import com.atlassian.jira.rest.client.api.JiraRestClient;
+import com.atlassian.jira.rest.client.auth.BasicHttpAuthenticationHandler;
+import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClient;
+import com.atlassian.jira.rest.client.internal.async.AtlassianHttpClientDecorator;
+import com.atlassian.jira.rest.client.internal.async.DisposableHttpClient;
+import com.atlassian.sal.api.ApplicationProperties;
+import com.atlassian.sal.api.UrlMode;
+import com.atlassian.sal.api.executor.ThreadLocalContextManager;
+import com.atlassian.util.concurrent.Promise;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the single {@link JiraRestClient} shared by the services, backed by one
+ * pooled async HTTP client, so calls reuse warm keep-alive connections instead of
+ * building a new client (and connection set) per operation.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraClientPool implements DisposableBean {
+
+    private final JiraProperties properties;
+    private final JiraMetrics metrics;
+    private final JiraThrottle throttle;
+    private final JiraResilience resilience;
+    private final DefaultHttpClientFactory httpClientFactory;
+    private final HttpClient httpClient;
+    private final JiraRestClient restClient;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder totalRequests = new LongAdder();
+    private volatile boolean closed;
+
+    public JiraClientPool(JiraProperties properties, JiraMetrics metrics, JiraThrottle throttle,
+            JiraResilience resilience) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.throttle = throttle;
+        this.resilience = resilience;
+        URI serverUri = URI.create(properties.getUrl());
+        this.httpClientFactory = new DefaultHttpClientFactory(new NoOpEventPublisher(),
+                new ClientApplicationProperties(serverUri), new NoOpThreadLocalContextManager());
+        this.httpClient = httpClientFactory.create(createOptions(properties.getPool()));
+        DisposableHttpClient authenticatedClient = new AtlassianHttpClientDecorator(httpClient,
+                new BasicHttpAuthenticationHandler(properties.getUsername(), properties.getPassword())) {
+            @Override
+            public void destroy() throws Exception {
+                httpClientFactory.dispose(httpClient);
+            }
+        };
+        this.restClient = new AsynchronousJiraRestClient(serverUri, authenticatedClient);
+        log.info("Created Jira client pool for {} - maxConnections: {} - maxConnectionsPerRoute: {}",
+                serverUri, properties.getPool().getMaxConnections(), properties.getPool().getMaxConnectionsPerRoute());
+        registerGauges(metrics.getRegistry());
+    }
+
+    private void registerGauges(MeterRegistry registry) {
+        Gauge.builder("jira.client.pool.in-flight", inFlight, AtomicInteger::get)
+                .description("Jira calls waiting for a response")
+                .register(registry);
+        Gauge.builder("jira.client.pool.utilization", this, pool -> pool.getStatistics().getUtilization())
+                .description("In-flight Jira calls relative to the maximum number of connections")
+                .register(registry);
+        Gauge.builder("jira.client.pool.max-connections", properties.getPool(), JiraProperties.Pool::getMaxConnections)
+                .register(registry);
+    }
+
+    private static HttpClientOptions createOptions(JiraProperties.Pool pool) {
+        HttpClientOptions options = new HttpClientOptions();
+        options.setMaxTotalConnections(pool.getMaxConnections());
+        options.setMaxConnectionsPerHost(pool.getMaxConnectionsPerRoute());
+        options.setConnectionTimeout(pool.getConnectionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        options.setSocketTimeout(pool.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        options.setRequestTimeout(pool.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        options.setConnectionPoolTimeToLive(pool.getIdleTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        options.setIoThreadCount(pool.getIoThreads());
+        options.setMaxCallbackThreadPoolSize(pool.getCallbackThreads());
+        options.setThreadPrefix("jira-client");
+        return options;
+    }
+
+    public JiraRestClient getClient() {
+        if (closed) {
+            throw new IllegalStateException("Jira client pool is closed");
+        }
+        return restClient;
+    }
+
+    public <T> Promise<T> call(JiraOperation operation, String projectKey, Function<JiraRestClient, Promise<T>> call) {
+        return call(operation, projectKey, JiraThrottle.Priority.INTERACTIVE, call);
+    }
+
+    // Run a call on the shared client once its bulkhead, the circuit breaker and the throttle admit it
+    public <T> Promise<T> call(JiraOperation operation, String projectKey, JiraThrottle.Priority priority,
+            Function<JiraRestClient, Promise<T>> call) {
+        JiraRestClient client = getClient();
+        return Promises.toPromise(resilience.execute(operation, () -> throttle.execute(operation, priority,
+                () -> send(client, operation, projectKey, call))));
+    }
+
+    // Send one attempt of a call, tracking and timing it while it is in flight
+    private <T> CompletableFuture<T> send(JiraRestClient client, JiraOperation operation, String projectKey,
+            Function<JiraRestClient, Promise<T>> call) {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        totalRequests.increment();
+        Timer.Sample sample = metrics.start(operation);
+        Promise<T> promise;
+        try {
+            promise = call.apply(client);
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            metrics.stop(sample, operation, projectKey, e);
+            throw e;
+        }
+        promise.addListener(() -> {
+            inFlight.decrementAndGet();
+            metrics.stop(sample, operation, projectKey, failureOf(promise));
+        }, Runnable::run);
+        return Promises.toCompletableFuture(promise);
+    }
+
+    // Failure of a completed future, null when it succeeded
+    private static Throwable failureOf(Future<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    public PoolStatistics getStatistics() {
+        JiraProperties.Pool pool = properties.getPool();
+        return new PoolStatistics(inFlight.get(), peakInFlight.get(), totalRequests.sum(),
+                pool.getMaxConnections(), pool.getMaxConnectionsPerRoute());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        PoolStatistics statistics = getStatistics();
+        log.info("Closing Jira client pool - inFlight: {} - totalRequests: {}", statistics.getInFlight(),
+                statistics.getTotalRequests());
+        restClient.close();
+    }
+
+    @Value
+    public static class PoolStatistics {
+        int inFlight;
+        int peakInFlight;
+        long totalRequests;
+        int maxConnections;
+        int maxConnectionsPerRoute;
+
+        public double getUtilization() {
+            return maxConnections == 0 ? 0d : (double) inFlight / maxConnections;
+        }
+    }
+
+    private static class NoOpEventPublisher implements EventPublisher {
+        @Override
+        public void publish(Object event) {
+        }
+
+        @Override
+        public void register(Object listener) {
+        }
+
+        @Override
+        public void unregister(Object listener) {
+        }
+
+        @Override
+        public void unregisterAll() {
+        }
+    }
+
+    private static class NoOpThreadLocalContextManager implements ThreadLocalContextManager<Object> {
+        @Override
+        public Object getThreadLocalContext() {
+            return null;
+        }
+
+        @Override
+        public void setThreadLocalContext(Object context) {
+        }
+
+        @Override
+        public void clearThreadLocalContext() {
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static class ClientApplicationProperties implements ApplicationProperties {
+
+        private final String baseUrl;
+
+        private ClientApplicationProperties(URI serverUri) {
+            this.baseUrl = serverUri.getPath();
+        }
+
+        @Override
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        @Override
+        public String getBaseUrl(UrlMode urlMode) {
+            return baseUrl;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "java-rest-api-jira";
+        }
+
+        @Override
+        public String getPlatformId() {
+            return ApplicationProperties.PLATFORM_JIRA;
+        }
+
+        @Override
+        public String getVersion() {
+            return "0.1-SNAPSHOT";
+        }
+
+        @Override
+        public Date getBuildDate() {
+            // No build metadata to report, the epoch stands for it
+            return new Date(0L);
+        }
+
+        @Override
+        public String getBuildNumber() {
+            return "0";
+        }
+
+        @Override
+        public File getHomeDirectory() {
+            return new File(".");
+        }
+
+        @Override
+        public String getPropertyValue(String key) {
+            // The client has no application properties of its own
+            return null;
+        }
+    }
+
+}
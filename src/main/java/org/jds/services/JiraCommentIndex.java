@@ -0,0 +1,221 @@
+package org.jds.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+
+import io.micrometer.core.instrument.Gauge;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inverted index of the comments read from Jira and posted from here, so
+ * {@code commentExists} and comment searches don't download and scan whole issues.
+ * Comments read again are only re-indexed when their {@code updated} timestamp
+ * moved; comments posted from here are indexed once Jira accepted them (for
+ * write-behind, once the queue sent them) and replaced by the real ones on the
+ * next read. A comment that isn't found is looked for in Jira
+ * again once the issue was read more than {@code refreshAfter} ago, or after a
+ * webhook reported a change. Searches across issues only see the issues read so far.
+ * At most {@code maxIssues} issues are kept; past that the comments of the least
+ * recently used issue are dropped and read from Jira again when it is next checked.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraCommentIndex {
+
+    private final JiraProperties.CommentIndex settings;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Comments posted from here have negative ids until Jira's are read
+    private final AtomicLong pendingIds = new AtomicLong();
+
+    // Guarded by lock
+    private final CommentPostings postings = new CommentPostings();
+    // Indexed issues, least recently used first, with when their comments were read (null until they are).
+    // Readers also reorder it, holding its monitor
+    private final LinkedHashMap<String, Long> issues = new LinkedHashMap<>(16, 0.75f, true);
+
+    public JiraCommentIndex(JiraProperties properties, JiraMetrics metrics) {
+        this.settings = properties.getCommentIndex();
+        Gauge.builder("jira.comment-index.comments", this, JiraCommentIndex::getComments)
+                .description("Comments in the comment index")
+                .register(metrics.getRegistry());
+        Gauge.builder("jira.comment-index.issues", this, JiraCommentIndex::getIssues)
+                .description("Issues with comments in the comment index")
+                .register(metrics.getRegistry());
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    // All the comments of the issue as just read from Jira
+    public void index(String issueKey, Iterable<Comment> comments) {
+        if (!settings.isEnabled() || comments == null) {
+            return;
+        }
+        int indexed = 0;
+        lock.writeLock().lock();
+        try {
+            Set<Long> gone = postings.commentIds(issueKey);
+            for (Comment comment : comments) {
+                long commentId = comment.getId() != null ? comment.getId() : -pendingIds.incrementAndGet();
+                gone.remove(commentId);
+                if (!isSameVersion(postings.get(issueKey, commentId), comment)) {
+                    postings.put(issueKey, commentId, comment);
+                    indexed++;
+                }
+            }
+            gone.forEach(commentId -> postings.remove(issueKey, commentId));
+            issues.put(issueKey, System.nanoTime());
+            evict();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (indexed > 0) {
+            log.debug("Indexed {} comments of issue: {}", indexed, issueKey);
+        }
+    }
+
+    private static boolean isSameVersion(Comment indexed, Comment comment) {
+        if (indexed == null) {
+            return false;
+        }
+        if (indexed.getUpdateDate() == null || comment.getUpdateDate() == null) {
+            return Objects.equals(indexed.getBody(), comment.getBody());
+        }
+        return indexed.getUpdateDate().isEqual(comment.getUpdateDate());
+    }
+
+    // A comment posted from here, until the issue is read again
+    public void added(String issueKey, String body) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.put(issueKey, -pendingIds.incrementAndGet(), Comment.valueOf(body));
+            issues.putIfAbsent(issueKey, null);
+            evict();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drops the least recently used issues past maxIssues, called holding the write lock
+    private void evict() {
+        int evicted = 0;
+        for (Iterator<String> eldest = issues.keySet().iterator(); issues.size() > settings.getMaxIssues();
+                evicted++) {
+            String issueKey = eldest.next();
+            eldest.remove();
+            postings.commentIds(issueKey).forEach(commentId -> postings.remove(issueKey, commentId));
+        }
+        if (evicted > 0) {
+            log.debug("Evicted the comments of {} issues from the comment index", evicted);
+        }
+    }
+
+    // Marks the issue as used, holding the read lock
+    private Long touch(String issueKey) {
+        synchronized (issues) {
+            return issues.get(issueKey);
+        }
+    }
+
+    // Whether an indexed comment of the issue contains the text
+    public boolean contains(String issueKey, String text) {
+        lock.readLock().lock();
+        try {
+            touch(issueKey);
+            return !postings.find(text, issueKey).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Whether the comments of the issue were read recently enough to trust a miss
+    public boolean isCurrent(String issueKey) {
+        lock.readLock().lock();
+        try {
+            Long at = touch(issueKey);
+            return at != null && System.nanoTime() - at < settings.getRefreshAfter().toNanos();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Indexed comments containing the text, across issues
+    public List<CommentMatch> search(String text) {
+        lock.readLock().lock();
+        try {
+            return postings.find(text, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The comments of the issue changed in Jira, read them again on the next miss
+    public void invalidate(String issueKey) {
+        lock.writeLock().lock();
+        try {
+            issues.replace(issueKey, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void forget(String issueKey, long commentId) {
+        lock.writeLock().lock();
+        try {
+            postings.remove(issueKey, commentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void forget(String issueKey) {
+        lock.writeLock().lock();
+        try {
+            postings.commentIds(issueKey).forEach(commentId -> postings.remove(issueKey, commentId));
+            issues.remove(issueKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getIssues() {
+        lock.readLock().lock();
+        try {
+            synchronized (issues) {
+                return issues.size();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getComments() {
+        lock.readLock().lock();
+        try {
+            return postings.getComments();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.jds.services;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+
+/**
+ * Classifies failures of Jira calls by the HTTP status Jira answered with.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class JiraErrors {
+
+    private JiraErrors() {
+    }
+
+    // Strip the wrappers added by futures
+    public static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException
+                || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // HTTP status of the failed call, null when Jira didn't answer
+    public static Integer statusCode(Throwable failure) {
+        Throwable cause = unwrap(failure);
+        if (cause instanceof RestClientException) {
+            RestClientException restClientException = (RestClientException) cause;
+            return restClientException.getStatusCode().isPresent() ? restClientException.getStatusCode().get() : null;
+        }
+        if (cause instanceof JiraHttpException) {
+            return ((JiraHttpException) cause).getStatusCode();
+        }
+        return null;
+    }
+
+    static boolean isNotFound(Throwable failure) {
+        Integer status = statusCode(failure);
+        return status != null && status == 404;
+    }
+
+    // Jira is rate limiting us or is temporarily overloaded
+    static boolean isThrottled(Throwable failure) {
+        Integer status = statusCode(failure);
+        return status != null && (status == 429 || status == 503);
+    }
+
+    // Wait requested by Jira for the failed call, null when unknown
+    static Duration retryAfter(Throwable failure) {
+        Throwable cause = unwrap(failure);
+        return cause instanceof JiraHttpException ? ((JiraHttpException) cause).getRetryAfter() : null;
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            // Not a number of seconds, try a date
+        }
+        try {
+            Duration wait = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,212 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+import com.atlassian.jira.rest.client.api.domain.util.ErrorCollection;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks whether issues, projects and users exist without downloading issues.
+ * Issues are checked in batches with a {@code key in (...)} search that returns
+ * no rows: Jira validates every key and names the ones that don't exist, which
+ * are dropped before the query is sent again. Projects and users come from the
+ * metadata cache. A 404 means false, and entities found missing are remembered
+ * for {@code negativeTtl}.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraExistenceChecks {
+
+    // How Jira's JQL validation names keys that don't exist or can't exist
+    private static final Pattern KEY_ERROR = Pattern.compile("key '([^']+)'");
+    private static final Set<String> NO_FIELDS = Set.of("key");
+
+    private final JiraClientPool clientPool;
+    private final JiraMetadataCache metadataCache;
+    private final JiraProperties.Existence settings;
+    private final Cache<String, Boolean> missing;
+
+    public JiraExistenceChecks(JiraClientPool clientPool, JiraMetadataCache metadataCache,
+            JiraProperties properties) {
+        this.clientPool = clientPool;
+        this.metadataCache = metadataCache;
+        this.settings = properties.getExistence();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize())
+                .expireAfterWrite(settings.getNegativeTtl())
+                .build();
+    }
+
+    public CompletableFuture<Boolean> issueExists(String issueKey) {
+        return issuesExist(List.of(issueKey)).thenApply(exists -> exists.get(issueKey));
+    }
+
+    // Existence of each key, in the order given
+    public CompletableFuture<Map<String, Boolean>> issuesExist(Collection<String> issueKeys) {
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String issueKey : issueKeys) {
+            if (missing.getIfPresent("issue:" + normalize(issueKey)) == null) {
+                unknown.add(normalize(issueKey));
+            }
+        }
+        List<CompletableFuture<Set<String>>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        for (String issueKey : unknown) {
+            batch.add(issueKey);
+            if (batch.size() == settings.getBatchSize()) {
+                batches.add(missingIssues(batch));
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(missingIssues(batch));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Set<String> notFound = new HashSet<>();
+            batches.forEach(found -> notFound.addAll(found.join()));
+            notFound.forEach(issueKey -> missing.put("issue:" + issueKey, Boolean.TRUE));
+            Map<String, Boolean> exists = new LinkedHashMap<>();
+            for (String issueKey : issueKeys) {
+                String key = normalize(issueKey);
+                exists.put(issueKey, unknown.contains(key) && !notFound.contains(key));
+            }
+            return exists;
+        });
+    }
+
+    // Keys of the batch Jira doesn't know, one search when they all exist
+    private CompletableFuture<Set<String>> missingIssues(List<String> issueKeys) {
+        if (issueKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+        return search(issueKeys).handle((result, failure) -> {
+            if (failure == null) {
+                return CompletableFuture.completedFuture(Set.<String>of());
+            }
+            Integer status = JiraErrors.statusCode(failure);
+            if (status == null || status != 400) {
+                return CompletableFuture.<Set<String>>failedFuture(JiraErrors.unwrap(failure));
+            }
+            Set<String> reported = reportedKeys(failure);
+            reported.retainAll(issueKeys);
+            if (!reported.isEmpty()) {
+                List<String> remaining = new ArrayList<>(issueKeys);
+                remaining.removeAll(reported);
+                return missingIssues(remaining).thenApply(more -> union(reported, more));
+            }
+            if (issueKeys.size() == 1) {
+                return CompletableFuture.completedFuture(Set.copyOf(issueKeys));
+            }
+            // Errors we can't attribute to a key, check them one by one
+            log.info("Unexpected errors checking {} issues, checking them one by one", issueKeys.size());
+            List<CompletableFuture<Set<String>>> singles = new ArrayList<>();
+            issueKeys.forEach(issueKey -> singles.add(missingIssues(List.of(issueKey))));
+            return CompletableFuture.allOf(singles.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+                Set<String> notFound = new HashSet<>();
+                singles.forEach(single -> notFound.addAll(single.join()));
+                return notFound;
+            });
+        }).thenCompose(Function.identity());
+    }
+
+    // A search for the keys that returns no rows
+    CompletableFuture<?> search(List<String> issueKeys) {
+        try {
+            return Promises.toCompletableFuture(clientPool.call(JiraOperation.ISSUE_SEARCH,
+                    JiraMetrics.projectOf(issueKeys.get(0)), client -> client.getSearchClient()
+                    .searchJql(JiraIssueSearch.keysJql(issueKeys), 0, 0, NO_FIELDS)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    static Set<String> reportedKeys(Throwable failure) {
+        Set<String> keys = new HashSet<>();
+        for (String message : errorMessages(JiraErrors.unwrap(failure))) {
+            Matcher matcher = KEY_ERROR.matcher(message);
+            while (matcher.find()) {
+                keys.add(normalize(matcher.group(1)));
+            }
+        }
+        return keys;
+    }
+
+    // Errors of the Jira client and of the JDK transport
+    private static List<String> errorMessages(Throwable cause) {
+        List<String> messages = new ArrayList<>();
+        if (cause instanceof RestClientException) {
+            for (ErrorCollection errors : ((RestClientException) cause).getErrorCollections()) {
+                messages.addAll(errors.getErrorMessages());
+                messages.addAll(errors.getErrors().values());
+            }
+        } else if (cause instanceof JiraHttpException) {
+            messages.addAll(((JiraHttpException) cause).getErrorMessages());
+        }
+        return messages;
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    public CompletableFuture<Boolean> projectExists(String projectKey) {
+        return exists("project:" + projectKey, () -> metadataCache.getProject(projectKey));
+    }
+
+    public CompletableFuture<Boolean> userExists(String userName) {
+        return exists("user:" + userName, () -> metadataCache.getUser(userName));
+    }
+
+    private CompletableFuture<Boolean> exists(String cacheKey, Supplier<CompletableFuture<?>> lookup) {
+        if (missing.getIfPresent(cacheKey) != null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return lookup.get().handle((found, failure) -> {
+            if (failure == null) {
+                return true;
+            }
+            if (JiraErrors.isNotFound(failure)) {
+                missing.put(cacheKey, Boolean.TRUE);
+                return false;
+            }
+            throw new CompletionException(JiraErrors.unwrap(failure));
+        });
+    }
+
+    // Forget that an issue was missing, e.g. once it was created
+    public void invalidate(String issueKey) {
+        missing.invalidate("issue:" + normalize(issueKey));
+    }
+
+    private static String normalize(String issueKey) {
+        return issueKey.toUpperCase(Locale.ROOT);
+    }
+
+}
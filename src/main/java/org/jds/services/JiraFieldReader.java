@@ -0,0 +1,49 @@
+package org.jds.services;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads issue fields without building the Jira client's domain graph: the issue
+ * is fetched with only the requested fields and parsed by {@link IssueFieldParser},
+ * which leaves each value unparsed until it is read. Used for the field reads of
+ * the services when {@code jira.fields.streaming} is on.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraFieldReader {
+
+    private final JiraProperties.Fields settings;
+    private final JiraRestReader restReader;
+
+    public JiraFieldReader(JiraProperties properties, JiraRestReader restReader) {
+        this.settings = properties.getFields();
+        this.restReader = restReader;
+    }
+
+    public boolean isEnabled() {
+        return settings.isStreaming();
+    }
+
+    // Fields of an issue, fieldIds null for all of them
+    public CompletableFuture<List<IssueField>> getFields(String issueKey, Set<String> fieldIds) {
+        String fields = fieldIds != null ? String.join(",", fieldIds) : "*all";
+        return restReader.get(JiraOperation.ISSUE_GET, JiraMetrics.projectOf(issueKey),
+                "rest/api/2/issue/" + JiraRestReader.encode(issueKey) + "?expand=names,schema&fields="
+                        + JiraRestReader.encode(fields), JiraThrottle.Priority.INTERACTIVE)
+                .thenApply(body -> IssueFieldParser.parse(body, fieldIds));
+    }
+
+}
@@ -0,0 +1,223 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP cache for the GETs sent by {@link JiraRestReader}, kept on local disk so it
+ * survives restarts. Responses carrying an {@code ETag} or {@code Last-Modified}
+ * are stored and revalidated with {@code If-None-Match} / {@code If-Modified-Since},
+ * so an unchanged resource costs a 304 without a body. Entries validated within
+ * {@code fresh-for} are served without asking Jira at all. {@code Cache-Control}
+ * is honoured: {@code no-store} and {@code private} responses are not kept, and
+ * {@code no-cache} ones are revalidated on every read.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraHttpCache implements DisposableBean {
+
+    public static final String REQUESTS = "jira.http-cache.requests";
+
+    private final JiraProperties.HttpCache settings;
+    private final HttpResponseStore store;
+    private final Counter hits;
+    private final Counter revalidated;
+    private final Counter misses;
+
+    public JiraHttpCache(JiraProperties properties, JiraMetrics metrics) throws IOException {
+        this.settings = properties.getHttpCache();
+        this.store = new HttpResponseStore(Paths.get(settings.getDirectory()), settings.getMaxSize().toBytes());
+        MeterRegistry registry = metrics.getRegistry();
+        this.hits = registry.counter(REQUESTS, "result", "hit");
+        this.revalidated = registry.counter(REQUESTS, "result", "revalidated");
+        this.misses = registry.counter(REQUESTS, "result", "miss");
+        if (!settings.isEnabled()) {
+            return;
+        }
+        store.open();
+        Gauge.builder("jira.http-cache.size", this, JiraHttpCache::getBytes)
+                .description("Bytes of cached Jira responses on disk")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    // Send a GET, answering from the cache when Jira says the stored body is still current
+    public CompletableFuture<byte[]> send(HttpClient httpClient, HttpRequest.Builder request, String action) {
+        if (!settings.isEnabled()) {
+            return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(response -> {
+                        JiraAttachmentTransfer.checkStatus(response, action);
+                        return JiraHttpTransport.body(response);
+                    });
+        }
+        HttpRequest plain = request.build();
+        String uri = plain.uri().toString();
+        HttpResponseStore.Entry entry;
+        synchronized (this) {
+            entry = store.get(uri);
+        }
+        if (entry != null && System.currentTimeMillis() - entry.getValidatedAt() < settings.getFreshFor().toMillis()) {
+            byte[] cached = read(entry);
+            if (cached != null) {
+                hits.increment();
+                return CompletableFuture.completedFuture(cached);
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            return httpClient.sendAsync(plain, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(response -> fetched(uri, response, action));
+        }
+        HttpRequest.Builder conditional = request.copy();
+        if (entry.getEtag() != null) {
+            conditional.header("If-None-Match", entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            conditional.header("If-Modified-Since", entry.getLastModified());
+        }
+        HttpResponseStore.Entry validated = entry;
+        return httpClient.sendAsync(conditional.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    if (response.statusCode() != 304) {
+                        return CompletableFuture.completedFuture(fetched(uri, response, action));
+                    }
+                    byte[] cached = revalidate(validated, response.headers());
+                    if (cached != null) {
+                        revalidated.increment();
+                        return CompletableFuture.completedFuture(cached);
+                    }
+                    // Evicted or replaced while the request was out, ask again for the body
+                    return httpClient.sendAsync(plain, HttpResponse.BodyHandlers.ofByteArray())
+                            .thenApply(retried -> fetched(uri, retried, action));
+                });
+    }
+
+    private byte[] fetched(String uri, HttpResponse<byte[]> response, String action) {
+        JiraAttachmentTransfer.checkStatus(response, action);
+        misses.increment();
+        byte[] body = JiraHttpTransport.body(response);
+        store(uri, response, body);
+        return body;
+    }
+
+    // Body of an entry, null once it is no longer the one cached for its URI
+    private synchronized byte[] read(HttpResponseStore.Entry entry) {
+        if (store.get(entry.getUri()) != entry) {
+            return null;
+        }
+        try {
+            return store.body(entry);
+        } catch (IOException e) {
+            log.warn("Failed to read the cached Jira response to {}", entry.getUri(), e);
+            invalidate(entry.getUri());
+            return null;
+        }
+    }
+
+    // The 304 carries the current caching directives of the resource
+    private synchronized byte[] revalidate(HttpResponseStore.Entry entry, HttpHeaders headers) {
+        byte[] body = read(entry);
+        if (body == null) {
+            return null;
+        }
+        Set<String> directives = directives(headers);
+        if (!isStorable(directives)) {
+            invalidate(entry.getUri());
+        } else if (!directives.contains("no-cache")) {
+            try {
+                store.revalidated(entry, System.currentTimeMillis());
+            } catch (IOException e) {
+                log.warn("Failed to record the revalidation of a cached Jira response", e);
+            }
+        }
+        return body;
+    }
+
+    // Only responses Jira can revalidate, and allows to keep, are worth keeping
+    private void store(String uri, HttpResponse<byte[]> response, byte[] body) {
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        Set<String> directives = directives(response.headers());
+        // A no-cache response is kept, but revalidated on every read
+        long validatedAt = directives.contains("no-cache") ? 0L : System.currentTimeMillis();
+        synchronized (this) {
+            try {
+                if ((etag == null && lastModified == null) || !isStorable(directives)
+                        || body.length > settings.getMaxEntrySize().toBytes()) {
+                    store.remove(uri);
+                    return;
+                }
+                store.put(uri, etag, lastModified, validatedAt, body);
+            } catch (IOException e) {
+                log.warn("Failed to cache the Jira response to {}", uri, e);
+            }
+        }
+    }
+
+    // Cache-Control directive names, lower case and without their arguments
+    static Set<String> directives(HttpHeaders headers) {
+        Set<String> directives = new HashSet<>();
+        for (String value : headers.allValues("Cache-Control")) {
+            for (String directive : value.split(",")) {
+                int argument = directive.indexOf('=');
+                String name = (argument < 0 ? directive : directive.substring(0, argument)).trim();
+                if (!name.isEmpty()) {
+                    directives.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return directives;
+    }
+
+    // The disk cache is shared by every caller of this service, so private responses stay out of it
+    static boolean isStorable(Set<String> directives) {
+        return !directives.contains("no-store") && !directives.contains("private");
+    }
+
+    public synchronized void invalidate(String uri) {
+        try {
+            store.remove(uri);
+        } catch (IOException e) {
+            log.warn("Failed to drop the cached Jira response to {}", uri, e);
+        }
+    }
+
+    public synchronized int getEntries() {
+        return store.getEntries();
+    }
+
+    public synchronized long getBytes() {
+        return store.getBytes();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        store.close();
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Error status returned by Jira to a request sent outside of the Jira client.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraHttpException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final Duration retryAfter;
+    private final List<String> errorMessages;
+
+    public JiraHttpException(String message, int statusCode) {
+        this(message, statusCode, null);
+    }
+
+    public JiraHttpException(String message, int statusCode, Duration retryAfter) {
+        this(message, statusCode, retryAfter, List.of());
+    }
+
+    public JiraHttpException(String message, int statusCode, Duration retryAfter, List<String> errorMessages) {
+        super(message + " failed with status " + statusCode);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+        this.errorMessages = List.copyOf(errorMessages);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    // Wait requested by Jira's Retry-After header, null when it didn't send one
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    // Messages of Jira's error body, both errorMessages and the per-field errors
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+}
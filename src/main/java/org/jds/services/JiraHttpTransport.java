@@ -0,0 +1,117 @@
+package org.jds.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The one JDK HTTP client used for everything not sent by the Jira client:
+ * attachment transfers, field reads and, with {@code jira.transport.type=jdk},
+ * the loads of projects, issues and users. It negotiates HTTP/2 where Jira offers
+ * it, so concurrent calls share a few multiplexed connections, completes them on
+ * a small shared executor and asks for gzip-compressed JSON.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraHttpTransport implements DisposableBean {
+
+    private final JiraProperties.Transport settings;
+    private final URI serverUri;
+    private final Duration requestTimeout;
+    private final String authorization;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    public JiraHttpTransport(JiraProperties properties) {
+        this.settings = properties.getTransport();
+        this.serverUri = URI.create(properties.getUrl().endsWith("/") ? properties.getUrl()
+                : properties.getUrl() + "/");
+        this.requestTimeout = properties.getPool().getRequestTimeout();
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+                (properties.getUsername() + ":" + properties.getPassword()).getBytes(StandardCharsets.UTF_8));
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, settings.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "jira-http-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getPool().getConnectionTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        log.info("Created JDK HTTP transport for {} - type: {} - version: {}", serverUri, settings.getType(),
+                httpClient.version());
+    }
+
+    // Project, issue and user loads are sent by this transport instead of the Jira client
+    public boolean isEnabled() {
+        return settings.getType() == JiraProperties.Transport.Type.JDK;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public URI resolve(String path) {
+        return serverUri.resolve(path);
+    }
+
+    public String getAuthorization() {
+        return authorization;
+    }
+
+    // Authenticated JSON GET of a path relative to the server
+    public HttpRequest.Builder get(String path) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(resolve(path))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .timeout(requestTimeout)
+                .GET();
+        if (settings.isGzip()) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        return request;
+    }
+
+    // The JDK client leaves decompression to the caller
+    static byte[] body(HttpResponse<byte[]> response) {
+        if (!response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase).orElse(false)) {
+            return response.body();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress the response to " + response.uri(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,198 @@
+package org.jds.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses whole-issue reads under fan-in. Concurrent reads of the same issue
+ * share one call, and reads of different issues of a project arriving within
+ * {@code window} are fetched together with one {@code key in (...)} search.
+ * Issues the search doesn't return, because they were moved or don't exist, are
+ * fetched one by one so callers see the same result as without batching. Jira
+ * rejects the whole search when a key doesn't exist: the keys its error names
+ * are fetched one by one and the others searched for again.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraIssueBatcher implements DisposableBean {
+
+    // Everything getIssue returns, custom fields are only parsed with their names and schema
+    private static final Set<String> ALL_FIELDS = Set.of("*all");
+    static final String EXPAND = "names,schema";
+
+    private final JiraClientPool clientPool;
+    private final JiraRestReader restReader;
+    private final JiraProperties.IssueBatch settings;
+    private final SingleFlight<String, Issue> flights = new SingleFlight<>();
+    private final ScheduledExecutorService timer;
+    private final DistributionSummary batchSizes;
+
+    // Guarded by this, per project
+    private final Map<String, Map<String, CompletableFuture<Issue>>> pending = new HashMap<>();
+
+    public JiraIssueBatcher(JiraClientPool clientPool, JiraRestReader restReader, JiraProperties properties,
+            JiraMetrics metrics) {
+        this.clientPool = clientPool;
+        this.restReader = restReader;
+        this.settings = properties.getIssueBatch();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jira-issue-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("jira.issue-batch.size")
+                .description("Issues fetched by one batched read")
+                .register(metrics.getRegistry());
+    }
+
+    public CompletableFuture<Issue> get(String issueKey) {
+        return flights.execute(issueKey.toUpperCase(Locale.ROOT),
+                () -> settings.isEnabled() ? enqueue(issueKey) : fetch(issueKey));
+    }
+
+    private CompletableFuture<Issue> enqueue(String issueKey) {
+        String projectKey = JiraMetrics.projectOf(issueKey);
+        CompletableFuture<Issue> issue = new CompletableFuture<>();
+        Map<String, CompletableFuture<Issue>> batch;
+        synchronized (this) {
+            batch = pending.get(projectKey);
+            if (batch == null) {
+                batch = new LinkedHashMap<>();
+                pending.put(projectKey, batch);
+                Map<String, CompletableFuture<Issue>> scheduled = batch;
+                timer.schedule(() -> flush(projectKey, scheduled), settings.getWindow().toNanos(),
+                        TimeUnit.NANOSECONDS);
+            }
+            batch.put(issueKey.toUpperCase(Locale.ROOT), issue);
+            if (batch.size() < settings.getMaxBatchSize()) {
+                return issue;
+            }
+            pending.remove(projectKey);
+        }
+        send(batch);
+        return issue;
+    }
+
+    // Called by the timer, unless the batch already filled up and was sent
+    private void flush(String projectKey, Map<String, CompletableFuture<Issue>> batch) {
+        synchronized (this) {
+            if (!pending.remove(projectKey, batch)) {
+                return;
+            }
+        }
+        send(batch);
+    }
+
+    private void send(Map<String, CompletableFuture<Issue>> batch) {
+        batchSizes.record(batch.size());
+        if (batch.size() == 1) {
+            Map.Entry<String, CompletableFuture<Issue>> single = batch.entrySet().iterator().next();
+            forward(fetch(single.getKey()), single.getValue());
+            return;
+        }
+        List<String> issueKeys = new ArrayList<>(batch.keySet());
+        CompletableFuture<SearchResult> search;
+        try {
+            // The Jira client's search can't expand names and schema, getIssue does
+            search = restReader.search(JiraIssueSearch.keysJql(issueKeys), ALL_FIELDS, EXPAND, 0, issueKeys.size(),
+                    JiraThrottle.Priority.INTERACTIVE);
+        } catch (RuntimeException e) {
+            search = CompletableFuture.failedFuture(e);
+        }
+        search.whenComplete((result, failure) -> {
+            if (failure != null) {
+                // Jira rejects the whole query when one of the keys doesn't exist
+                Integer status = JiraErrors.statusCode(failure);
+                if (status != null && status == 400) {
+                    rejected(batch, failure);
+                } else {
+                    batch.values().forEach(issue -> issue.completeExceptionally(failure));
+                }
+                return;
+            }
+            Map<String, CompletableFuture<Issue>> missing = new HashMap<>(batch);
+            for (Issue found : result.getIssues()) {
+                CompletableFuture<Issue> issue = missing.remove(found.getKey().toUpperCase(Locale.ROOT));
+                if (issue != null) {
+                    issue.complete(found);
+                }
+            }
+            missing.forEach((issueKey, issue) -> forward(fetch(issueKey), issue));
+        });
+    }
+
+    // Read the keys Jira's error names one by one and search for the others again
+    private void rejected(Map<String, CompletableFuture<Issue>> batch, Throwable failure) {
+        Set<String> reported = JiraExistenceChecks.reportedKeys(failure);
+        reported.retainAll(batch.keySet());
+        if (reported.isEmpty()) {
+            log.info("Batched read of {} issues rejected, reading them one by one", batch.size());
+            batch.forEach((issueKey, issue) -> forward(fetch(issueKey), issue));
+            return;
+        }
+        log.info("Batched read of {} issues rejected for {}, searching for the others again", batch.size(),
+                reported);
+        Map<String, CompletableFuture<Issue>> others = new LinkedHashMap<>(batch);
+        reported.forEach(issueKey -> forward(fetch(issueKey), others.remove(issueKey)));
+        if (!others.isEmpty()) {
+            send(others);
+        }
+    }
+
+    // Over the JDK transport or through the HTTP cache when either is on
+    private CompletableFuture<Issue> fetch(String issueKey) {
+        if (restReader.isEnabled()) {
+            return restReader.getIssue(issueKey);
+        }
+        try {
+            return Promises.toCompletableFuture(clientPool.call(JiraOperation.ISSUE_GET,
+                    JiraMetrics.projectOf(issueKey), client -> client.getIssueClient().getIssue(issueKey)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void forward(CompletableFuture<Issue> source, CompletableFuture<Issue> target) {
+        source.whenComplete((issue, failure) -> {
+            if (failure != null) {
+                target.completeExceptionally(failure);
+            } else {
+                target.complete(issue);
+            }
+        });
+    }
+
+    int getInFlight() {
+        return flights.getInFlight();
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+    }
+
+}
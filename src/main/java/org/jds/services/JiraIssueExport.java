@@ -0,0 +1,225 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+import com.atlassian.jira.rest.client.api.domain.Worklog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports every issue of a JQL search, with its comments, changelog and worklogs,
+ * to Arrow files in one pass (see {@link IssueExportWriter}). The first page gives
+ * the number of pages, the others are fetched by {@code parallelism} fetchers into
+ * a queue of {@code queuePages} pages that the calling thread drains into the
+ * files; fetchers wait while the queue is full, so memory stays the same whatever
+ * the size of the project. Pages are ordered by creation date and issues created
+ * after the export started are left to the next one. Worklogs and changelogs
+ * that Jira cut short in the search are read in full.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class JiraIssueExport implements DisposableBean {
+
+    static final Set<String> FIELDS = Set.of("*all");
+    // Jira embeds at most this many worklogs in an issue, issues with as many are read in full
+    private static final int EMBEDDED_WORKLOGS = 20;
+
+    private final JiraRestReader restReader;
+    private final JiraProperties.Export settings;
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+
+    public JiraIssueExport(JiraRestReader restReader, JiraProperties properties, JiraMetrics metrics) {
+        this.restReader = restReader;
+        this.settings = properties.getExport();
+        this.registry = metrics.getRegistry();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "jira-export-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Export a project to a directory of its own under jira.export.directory
+    public IssueExportResult export(String projectKey) {
+        return export(JiraProjectSync.projectJql(projectKey), Paths.get(settings.getDirectory(), projectKey));
+    }
+
+    public IssueExportResult export(String jql, Path directory) {
+        log.info("JiraIssueExport.export() - jql: {} - directory: {}", jql, directory);
+        Timer.Sample sample = Timer.start(registry);
+        List<Future<?>> fetchers = new ArrayList<>();
+        long written = 0;
+        try (IssueExportWriter writer = new IssueExportWriter(directory, settings.getBatchSize())) {
+            Page first = fetch(jql, 0, settings.getPageSize());
+            written += write(writer, first);
+            // Jira may return fewer issues per page than asked for
+            int pageSize = first.maxResults > 0 ? first.maxResults : settings.getPageSize();
+            int pages = (first.total + pageSize - 1) / pageSize;
+            BlockingQueue<Page> queue = new ArrayBlockingQueue<>(Math.max(1, settings.getQueuePages()));
+            AtomicInteger nextPage = new AtomicInteger(1);
+            int lanes = Math.max(0, Math.min(settings.getParallelism(), pages - 1));
+            for (int lane = 0; lane < lanes; lane++) {
+                fetchers.add(executor.submit(() -> fetchPages(jql, pages, pageSize, nextPage, queue)));
+            }
+            for (int done = 0; done < lanes;) {
+                Page page = queue.take();
+                if (page.error != null) {
+                    throw page.error;
+                }
+                if (page.issues == null) {
+                    done++;
+                } else {
+                    written += write(writer, page);
+                }
+            }
+            writer.finish();
+            Duration duration = Duration.ofNanos(sample.stop(timer("success")));
+            registry.counter("jira.export.issues").increment(writer.getIssues());
+            log.info("Exported {} issues to {} in {} ms", writer.getIssues(), directory, duration.toMillis());
+            return IssueExportResult.success(jql, directory.toString(), writer.getIssues(), writer.getComments(),
+                    writer.getChanges(), writer.getWorklogs(), duration);
+        } catch (IOException | RuntimeException e) {
+            Duration duration = Duration.ofNanos(sample.stop(timer("failure")));
+            log.error("Export of {} failed after {} issues", jql, written, e);
+            return IssueExportResult.failure(jql, directory.toString(), written, duration,
+                    String.valueOf(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Duration duration = Duration.ofNanos(sample.stop(timer("failure")));
+            return IssueExportResult.failure(jql, directory.toString(), written, duration, "Interrupted");
+        } finally {
+            fetchers.forEach(fetcher -> fetcher.cancel(true));
+        }
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("jira.export.duration")
+                .tags("outcome", outcome)
+                .register(registry);
+    }
+
+    // Fetch the pages nobody took yet, then report this fetcher done
+    private void fetchPages(String jql, int pages, int pageSize, AtomicInteger nextPage, BlockingQueue<Page> queue) {
+        Page last = Page.LAST;
+        try {
+            for (int page = nextPage.getAndIncrement(); page < pages; page = nextPage.getAndIncrement()) {
+                queue.put(fetch(jql, page * pageSize, pageSize));
+            }
+        } catch (InterruptedException e) {
+            // The export gave up
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            last = new Page(null, null, null, 0, 0, e);
+        }
+        try {
+            queue.put(last);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Page fetch(String jql, int startAt, int maxResults) {
+        IssueSearchPage page = Promises.join(restReader.searchWithChangelog(jql, FIELDS, startAt, maxResults,
+                JiraThrottle.Priority.BATCH));
+        SearchResult result = page.getResult();
+        List<Issue> issues = new ArrayList<>(maxResults);
+        result.getIssues().forEach(issues::add);
+        // Filled in by the reads as they complete, issues without any are left out
+        Map<String, Iterable<Worklog>> worklogs = new ConcurrentHashMap<>();
+        Map<String, Iterable<ChangelogGroup>> changelogs = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> reads = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (page.getTruncatedChangelogs().containsKey(issue.getKey())) {
+                reads.add(restReader.getChangelog(issue.getKey(), JiraThrottle.Priority.BATCH)
+                        .thenAccept(all -> changelogs.put(issue.getKey(), all)));
+            } else if (issue.getChangelog() != null) {
+                changelogs.put(issue.getKey(), issue.getChangelog());
+            }
+            if (count(issue.getWorklogs()) >= EMBEDDED_WORKLOGS) {
+                reads.add(restReader.getWorklogs(issue, JiraThrottle.Priority.BATCH)
+                        .thenAccept(all -> worklogs.put(issue.getKey(), all)));
+            } else if (issue.getWorklogs() != null) {
+                worklogs.put(issue.getKey(), issue.getWorklogs());
+            }
+        }
+        Promises.join(CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])));
+        return new Page(issues, worklogs, changelogs, result.getTotal(), result.getMaxResults(), null);
+    }
+
+    private static int count(Iterable<?> values) {
+        int count = 0;
+        if (values != null) {
+            for (Object ignored : values) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int write(IssueExportWriter writer, Page page) throws IOException {
+        for (Issue issue : page.issues) {
+            writer.write(issue, page.changelogs.get(issue.getKey()), page.worklogs.get(issue.getKey()));
+        }
+        return page.issues.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // A page of issues, or the end of a fetcher with its error if it failed
+    private static final class Page {
+        private static final Page LAST = new Page(null, null, null, 0, 0, null);
+
+        private final List<Issue> issues;
+        private final Map<String, Iterable<Worklog>> worklogs;
+        private final Map<String, Iterable<ChangelogGroup>> changelogs;
+        private final int total;
+        private final int maxResults;
+        private final RuntimeException error;
+
+        private Page(List<Issue> issues, Map<String, Iterable<Worklog>> worklogs,
+                Map<String, Iterable<ChangelogGroup>> changelogs, int total, int maxResults, RuntimeException error) {
+            this.issues = issues;
+            this.worklogs = worklogs;
+            this.changelogs = changelogs;
+            this.total = total;
+            this.maxResults = maxResults;
+            this.error = error;
+        }
+    }
+
+}
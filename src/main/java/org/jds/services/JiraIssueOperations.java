@@ -0,0 +1,183 @@
+package org.jds.services;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.util.concurrent.Promise;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gets, deletes and comments on many issues at once. At most
+ * {@code jira.bulk.issue-parallelism} keys are in flight at any time, results come
+ * back in the order of the keys and a failing key doesn't fail the others. Deletes
+ * and comments go straight to the issue key without reading the issue first.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraIssueOperations {
+
+    private final JiraClientPool clientPool;
+    private final JiraIssueStore issueStore;
+    private final JiraWriteBehindQueue writeBehind;
+    private final JiraAttachmentIndex attachmentIndex;
+    private final JiraCommentIndex commentIndex;
+    private final JiraProperties.Bulk settings;
+    private final URI serverUri;
+
+    public JiraIssueOperations(JiraClientPool clientPool, JiraIssueStore issueStore,
+            JiraWriteBehindQueue writeBehind, JiraAttachmentIndex attachmentIndex, JiraCommentIndex commentIndex,
+            JiraProperties properties) {
+        this.clientPool = clientPool;
+        this.issueStore = issueStore;
+        this.writeBehind = writeBehind;
+        this.attachmentIndex = attachmentIndex;
+        this.commentIndex = commentIndex;
+        this.settings = properties.getBulk();
+        this.serverUri = URI.create(properties.getUrl().endsWith("/") ? properties.getUrl()
+                : properties.getUrl() + "/");
+    }
+
+    public CompletableFuture<List<IssueOperationResult<Issue>>> getIssues(List<String> issueKeys) {
+        log.info("JiraIssueOperations.getIssues() - issues: {}", issueKeys.size());
+        return run(issueKeys, issueStore::get);
+    }
+
+    public CompletableFuture<List<IssueOperationResult<Void>>> deleteIssues(List<String> issueKeys) {
+        log.info("JiraIssueOperations.deleteIssues() - issues: {}", issueKeys.size());
+        return run(issueKeys, issueKey -> delete(issueKey, JiraThrottle.Priority.BATCH));
+    }
+
+    public CompletableFuture<List<IssueOperationResult<Void>>> addComments(List<String> issueKeys, String comment) {
+        log.info("JiraIssueOperations.addComments() - issues: {}", issueKeys.size());
+        return run(issueKeys, issueKey -> comment(issueKey, comment, JiraThrottle.Priority.BATCH));
+    }
+
+    // Delete the issue and its subtasks
+    public CompletableFuture<Void> delete(String issueKey, JiraThrottle.Priority priority) {
+        return changed(issueKey, call(() -> clientPool.call(JiraOperation.ISSUE_DELETE,
+                JiraMetrics.projectOf(issueKey), priority,
+                client -> client.getIssueClient().deleteIssue(issueKey, true))))
+                .thenRun(() -> {
+                    attachmentIndex.forget(issueKey);
+                    commentIndex.forget(issueKey);
+                });
+    }
+
+    // Post the comment to the comments of the key, queued when write-behind is on
+    public CompletableFuture<Void> comment(String issueKey, String comment, JiraThrottle.Priority priority) {
+        if (writeBehind.isEnabled()) {
+            // Indexed once Jira has it, the queue may still drop it as rejected
+            return changed(issueKey, writeBehind.comment(issueKey, comment)
+                    .thenRun(() -> commentIndex.added(issueKey, comment)));
+        }
+        URI commentsUri = serverUri.resolve("rest/api/2/issue/" + issueKey + "/comment");
+        return changed(issueKey, call(() -> clientPool.call(JiraOperation.COMMENT_ADD,
+                JiraMetrics.projectOf(issueKey), priority,
+                client -> client.getIssueClient().addComment(commentsUri, Comment.valueOf(comment)))))
+                .thenRun(() -> commentIndex.added(issueKey, comment));
+    }
+
+    private static <T> CompletableFuture<T> call(Supplier<Promise<T>> call) {
+        try {
+            return Promises.toCompletableFuture(call.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Drop the stored copy of the issue once the write is done
+    private <T> CompletableFuture<T> changed(String issueKey, CompletableFuture<T> write) {
+        return write.whenComplete((ignored, e) -> issueStore.invalidate(issueKey));
+    }
+
+    private <T> CompletableFuture<List<IssueOperationResult<T>>> run(List<String> issueKeys,
+            Function<String, CompletableFuture<T>> operation) {
+        if (issueKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        KeyJob<T> job = new KeyJob<>(issueKeys, operation);
+        int lanes = Math.max(1, Math.min(settings.getIssueParallelism(), issueKeys.size()));
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            workers[lane] = nextKey(job);
+        }
+        return CompletableFuture.allOf(workers).thenApply(ignored -> job.results());
+    }
+
+    // Each lane runs one key at a time and picks up the next one when it completes
+    private <T> CompletableFuture<Void> nextKey(KeyJob<T> job) {
+        while (true) {
+            int index = job.next.getAndIncrement();
+            if (index >= job.issueKeys.size()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            String issueKey = job.issueKeys.get(index);
+            CompletableFuture<T> result;
+            try {
+                result = job.operation.apply(issueKey);
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<Void> recorded = result.handle((value, e) -> {
+                job.complete(index, value, e);
+                return null;
+            });
+            // Keys answered right away, e.g. from the issue store, are run in the loop instead of recursing
+            if (!recorded.isDone()) {
+                return recorded.thenCompose(ignored -> nextKey(job));
+            }
+        }
+    }
+
+    private static class KeyJob<T> {
+        private final List<String> issueKeys;
+        private final Function<String, CompletableFuture<T>> operation;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicReferenceArray<IssueOperationResult<T>> results;
+
+        private KeyJob(List<String> issueKeys, Function<String, CompletableFuture<T>> operation) {
+            this.issueKeys = issueKeys;
+            this.operation = operation;
+            this.results = new AtomicReferenceArray<>(issueKeys.size());
+        }
+
+        private void complete(int index, T value, Throwable failure) {
+            String issueKey = issueKeys.get(index);
+            if (failure == null) {
+                results.set(index, IssueOperationResult.success(index, issueKey, value));
+                return;
+            }
+            Throwable cause = JiraErrors.unwrap(failure);
+            String error = JiraErrors.isNotFound(cause) ? "Issue " + issueKey + " doesn't exist"
+                    : String.valueOf(cause.getMessage());
+            log.warn("Operation on issue {} failed: {}", issueKey, error);
+            results.set(index, IssueOperationResult.failure(index, issueKey, error));
+        }
+
+        private List<IssueOperationResult<T>> results() {
+            List<IssueOperationResult<T>> list = new ArrayList<>(results.length());
+            for (int index = 0; index < results.length(); index++) {
+                list.add(results.get(index));
+            }
+            return list;
+        }
+    }
+
+}
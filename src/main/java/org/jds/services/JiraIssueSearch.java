@@ -0,0 +1,167 @@
+package org.jds.services;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+/**
+ * Lazy, paged JQL search. Only the current and the prefetched page are held in
+ * memory, whatever the size of the result.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class JiraIssueSearch {
+
+    // Fields the Jira client needs to parse an issue, always added to a projection
+    public static final Set<String> REQUIRED_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(
+            List.of("summary", "issuetype", "created", "updated", "project", "status")));
+
+    private final JiraClientPool clientPool;
+    private final int defaultPageSize;
+    private final SingleFlight<String, Issue> flights = new SingleFlight<>();
+
+    public JiraIssueSearch(JiraClientPool clientPool, JiraProperties properties) {
+        this.clientPool = clientPool;
+        this.defaultPageSize = properties.getSearch().getPageSize();
+    }
+
+    public Stream<Issue> stream(String jql, Set<String> fields) {
+        return stream(jql, fields, defaultPageSize);
+    }
+
+    // The stream must be closed when abandoned before the end to cancel the prefetched page
+    public Stream<Issue> stream(String jql, Set<String> fields, int pageSize) {
+        return stream(cursor(jql, fields, pageSize));
+    }
+
+    private static Stream<Issue> stream(IssueSearchCursor cursor) {
+        Iterator<Issue> iterator = new CursorIterator(cursor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    // Paged by key rather than by offset, the JQL must not have an ORDER BY; see IssueSearchCursor
+    public Stream<Issue> streamByKey(String jql, Set<String> fields, int pageSize) {
+        return stream(cursor(jql, fields, pageSize, true));
+    }
+
+    // Fetch a single issue with only the given fields, e.g. just "comment"; concurrent identical reads share one call
+    public CompletableFuture<Issue> findIssue(String issueKey, Set<String> fields) {
+        Set<String> projection = withRequiredFields(fields);
+        return flights.execute(issueKey + " " + projection, () -> search(issueKey, projection));
+    }
+
+    private CompletableFuture<Issue> search(String issueKey, Set<String> projection) {
+        CompletableFuture<SearchResult> search;
+        try {
+            search = Promises.toCompletableFuture(clientPool.call(JiraOperation.ISSUE_SEARCH,
+                    JiraMetrics.projectOf(issueKey), client -> client.getSearchClient()
+                    .searchJql(keyJql(issueKey), 1, 0, projection)));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return search.thenApply(result -> {
+            Iterator<Issue> issues = result.getIssues().iterator();
+            if (!issues.hasNext()) {
+                throw new NoSuchElementException("Issue " + issueKey + " doesn't exist");
+            }
+            return issues.next();
+        });
+    }
+
+    static String keyJql(String issueKey) {
+        return "key = " + quote(issueKey);
+    }
+
+    static String keysJql(Collection<String> issueKeys) {
+        return issueKeys.stream()
+                .map(JiraIssueSearch::quote)
+                .collect(Collectors.joining(", ", "key in (", ")"));
+    }
+
+    // JQL string literal, backslashes are escaped first so they can't escape the closing quote
+    static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    public Flow.Publisher<Issue> publisher(String jql, Set<String> fields) {
+        return publisher(jql, fields, defaultPageSize);
+    }
+
+    public Flow.Publisher<Issue> publisher(String jql, Set<String> fields, int pageSize) {
+        return new IssueSearchPublisher(() -> cursor(jql, fields, pageSize));
+    }
+
+    IssueSearchCursor cursor(String jql, Set<String> fields, int pageSize) {
+        return cursor(jql, fields, pageSize, false);
+    }
+
+    private IssueSearchCursor cursor(String jql, Set<String> fields, int pageSize, boolean byKey) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        return new IssueSearchCursor(clientPool, jql, pageSize, withRequiredFields(fields), byKey);
+    }
+
+    // null keeps Jira's default field set
+    static Set<String> withRequiredFields(Set<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> projection = new LinkedHashSet<>(REQUIRED_FIELDS);
+        projection.addAll(fields);
+        return projection;
+    }
+
+    private static class CursorIterator implements Iterator<Issue> {
+
+        private final IssueSearchCursor cursor;
+        private Iterator<Issue> page = Collections.emptyIterator();
+
+        private CursorIterator(IssueSearchCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext()) {
+                List<Issue> issues = Promises.join(cursor.nextPage());
+                if (issues.isEmpty()) {
+                    return false;
+                }
+                page = issues.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Issue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+
+}
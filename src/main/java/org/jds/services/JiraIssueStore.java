@@ -0,0 +1,122 @@
+package org.jds.services;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through store of whole issues for reads that poll the same issues over and
+ * over. Jira webhooks and our own writes invalidate issues as they change; past
+ * {@code refreshAfter} a stored issue is still served while a projection of just
+ * its {@code updated} field is fetched, and the issue is downloaded again only
+ * when that moved. When the store is disabled every read goes to Jira.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraIssueStore {
+
+    private static final Set<String> UPDATED_FIELDS = Set.of("updated");
+
+    private final JiraIssueBatcher issueBatcher;
+    private final JiraIssueSearch issueSearch;
+    private final JiraProperties.IssueStore settings;
+    private final AsyncLoadingCache<String, Issue> issues;
+
+    public JiraIssueStore(JiraIssueBatcher issueBatcher, JiraIssueSearch issueSearch, JiraProperties properties,
+            JiraMetrics metrics) {
+        this.issueBatcher = issueBatcher;
+        this.issueSearch = issueSearch;
+        this.settings = properties.getIssueStore();
+        this.issues = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxSize())
+                .refreshAfterWrite(settings.getRefreshAfter())
+                .expireAfterAccess(settings.getExpireAfterAccess())
+                .recordStats()
+                .buildAsync(new IssueLoader());
+        CaffeineCacheMetrics.monitor(metrics.getRegistry(), issues.synchronous(), "jira.issues");
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    public CompletableFuture<Issue> get(String issueKey) {
+        if (!settings.isEnabled()) {
+            return load(issueKey);
+        }
+        return issues.get(issueKey);
+    }
+
+    // The issue changed in Jira, download it again if it is being read
+    public void onIssueChanged(String issueKey) {
+        if (issues.getIfPresent(issueKey) != null) {
+            log.info("Reloading changed issue: {}", issueKey);
+            issues.synchronous().invalidate(issueKey);
+            issues.get(issueKey);
+        }
+    }
+
+    public void invalidate(String issueKey) {
+        issues.synchronous().invalidate(issueKey);
+    }
+
+    public void invalidateAll() {
+        issues.synchronous().invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return issues.synchronous().stats();
+    }
+
+    private CompletableFuture<Issue> load(String issueKey) {
+        return issueBatcher.get(issueKey);
+    }
+
+    private class IssueLoader implements AsyncCacheLoader<String, Issue> {
+
+        @Override
+        public CompletableFuture<Issue> asyncLoad(String issueKey, Executor executor) {
+            log.info("Loading issue: {}", issueKey);
+            return load(issueKey);
+        }
+
+        // Keep the stored issue while its updated timestamp is unchanged, drop it once it is gone from Jira
+        @Override
+        public CompletableFuture<Issue> asyncReload(String issueKey, Issue stored, Executor executor) {
+            return issueSearch.findIssue(issueKey, UPDATED_FIELDS)
+                    .thenCompose(latest -> isSameVersion(stored, latest) ? CompletableFuture.completedFuture(stored)
+                            : load(issueKey))
+                    .exceptionally(e -> {
+                        if (JiraErrors.unwrap(e) instanceof NoSuchElementException || JiraErrors.isNotFound(e)) {
+                            log.info("Issue {} no longer exists", issueKey);
+                            return null;
+                        }
+                        throw new IllegalStateException("Failed to refresh issue " + issueKey, e);
+                    });
+        }
+
+        private boolean isSameVersion(Issue stored, Issue latest) {
+            return stored.getUpdateDate() != null && latest.getUpdateDate() != null
+                    && stored.getUpdateDate().isEqual(latest.getUpdateDate());
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.jds.services;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jds.config.JiraProperties;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.IssueType;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches projects (with their issue types) and users, which change rarely but were
+ * fetched on every write. Concurrent misses for the same key share one load.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraMetadataCache {
+
+    private final AsyncLoadingCache<String, Project> projects;
+    private final AsyncLoadingCache<String, User> users;
+
+    public JiraMetadataCache(JiraClientPool clientPool, JiraRestReader restReader, JiraProperties properties) {
+        JiraProperties.Cache cache = properties.getCache();
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(cache.getMaxSize())
+                .expireAfterWrite(cache.getTtl())
+                .recordStats()
+                .buildAsync((projectKey, executor) -> {
+                    log.info("Loading project: {}", projectKey);
+                    if (restReader.isEnabled()) {
+                        return restReader.getProject(projectKey);
+                    }
+                    return Promises.toCompletableFuture(
+                            clientPool.call(JiraOperation.PROJECT_GET, projectKey,
+                                    client -> client.getProjectClient().getProject(projectKey)));
+                });
+        this.users = Caffeine.newBuilder()
+                .maximumSize(cache.getMaxSize())
+                .expireAfterWrite(cache.getTtl())
+                .recordStats()
+                .buildAsync((userName, executor) -> {
+                    log.info("Loading user: {}", userName);
+                    if (restReader.isEnabled()) {
+                        return restReader.getUser(userName);
+                    }
+                    return Promises.toCompletableFuture(
+                            clientPool.call(JiraOperation.USER_GET, null,
+                                    client -> client.getUserClient().getUser(userName)));
+                });
+    }
+
+    public CompletableFuture<Project> getProject(String projectKey) {
+        return projects.get(projectKey);
+    }
+
+    public CompletableFuture<User> getUser(String userName) {
+        return users.get(userName);
+    }
+
+    // Get Issue Type by name from the cached project, null when the project doesn't have it
+    public CompletableFuture<IssueType> getIssueType(String projectKey, String issueType) {
+        return getProject(projectKey).thenApply(project -> findIssueType(project, issueType));
+    }
+
+    static IssueType findIssueType(Project project, String issueType) {
+        for (IssueType type : project.getIssueTypes()) {
+            if (type.getName().equalsIgnoreCase(issueType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public void invalidateProject(String projectKey) {
+        projects.synchronous().invalidate(projectKey);
+    }
+
+    public void invalidateUser(String userName) {
+        users.synchronous().invalidate(userName);
+    }
+
+    public void invalidateAll() {
+        projects.synchronous().invalidateAll();
+        users.synchronous().invalidateAll();
+    }
+
+    public CacheStats getProjectStats() {
+        return projects.synchronous().stats();
+    }
+
+    public CacheStats getUserStats() {
+        return users.synchronous().stats();
+    }
+
+}
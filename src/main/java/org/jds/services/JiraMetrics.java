@@ -0,0 +1,122 @@
+package org.jds.services;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters for the outbound Jira calls: a latency histogram per
+ * operation, project and outcome, error and retry counters, and in-flight gauges.
+ * Every project tag multiplies the histogram buckets, so only the first
+ * {@value #MAX_PROJECTS} projects seen are tagged by key, later ones and keys
+ * that aren't project keys share the {@code other} tag.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class JiraMetrics {
+
+    public static final String REQUESTS = "jira.client.requests";
+    public static final String ACTIVE_REQUESTS = "jira.client.requests.active";
+    public static final String ERRORS = "jira.client.errors";
+    public static final String RETRIES = "jira.client.retries";
+
+    static final int MAX_PROJECTS = 50;
+    static final String OTHER = "other";
+    private static final String NONE = "none";
+    private static final Pattern PROJECT_KEY = Pattern.compile("[A-Z][A-Z0-9_]{0,63}");
+
+    private final MeterRegistry registry;
+    private final Map<JiraOperation, AtomicInteger> active = new EnumMap<>(JiraOperation.class);
+    private final Set<String> projects = ConcurrentHashMap.newKeySet();
+
+    public JiraMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (JiraOperation operation : JiraOperation.values()) {
+            active.put(operation, registry.gauge(ACTIVE_REQUESTS, Tags.of("operation", operation.getTag()),
+                    new AtomicInteger()));
+        }
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    public Timer.Sample start(JiraOperation operation) {
+        active.get(operation).incrementAndGet();
+        return Timer.start(registry);
+    }
+
+    // failure is null when the call succeeded
+    public void stop(Timer.Sample sample, JiraOperation operation, String projectKey, Throwable failure) {
+        active.get(operation).decrementAndGet();
+        String project = projectTag(projectKey);
+        sample.stop(Timer.builder(REQUESTS)
+                .description("Outbound Jira calls")
+                .tags("operation", operation.getTag(), "project", project, "outcome", outcome(failure))
+                .publishPercentileHistogram()
+                .register(registry));
+        if (failure != null) {
+            registry.counter(ERRORS, "operation", operation.getTag(), "project", project,
+                    "exception", JiraErrors.unwrap(failure).getClass().getSimpleName()).increment();
+        }
+    }
+
+    String projectTag(String projectKey) {
+        if (projectKey == null) {
+            return NONE;
+        }
+        if (projects.contains(projectKey)) {
+            return projectKey;
+        }
+        if (!PROJECT_KEY.matcher(projectKey).matches()) {
+            return OTHER;
+        }
+        synchronized (projects) {
+            if (projects.size() < MAX_PROJECTS) {
+                projects.add(projectKey);
+                return projectKey;
+            }
+        }
+        return OTHER;
+    }
+
+    public void recordRetry(JiraOperation operation, String reason) {
+        registry.counter(RETRIES, "operation", operation.getTag(), "reason", reason).increment();
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "SUCCESS";
+        }
+        Integer status = JiraErrors.statusCode(failure);
+        if (status == null) {
+            return "UNKNOWN";
+        }
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        return status >= 400 ? "CLIENT_ERROR" : "UNKNOWN";
+    }
+
+    // Project key of an issue key, JDS-1 belongs to JDS
+    public static String projectOf(String issueKey) {
+        if (issueKey == null) {
+            return null;
+        }
+        int separator = issueKey.lastIndexOf('-');
+        return separator > 0 ? issueKey.substring(0, separator) : null;
+    }
+
+}
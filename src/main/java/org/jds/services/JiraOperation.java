@@ -0,0 +1,54 @@
+package org.jds.services;
+
+/**
+ * Outbound Jira calls, used to tag their metrics, to decide which failed calls
+ * may be sent again and which bulkhead they run in.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum JiraOperation {
+    PROJECT_GET("project.get", true, Kind.READ),
+    USER_GET("user.get", true, Kind.READ),
+    ISSUE_GET("issue.get", true, Kind.READ),
+    ISSUE_CREATE("issue.create", false, Kind.WRITE),
+    ISSUE_BULK_CREATE("issue.bulk-create", false, Kind.WRITE),
+    ISSUE_UPDATE("issue.update", true, Kind.WRITE),
+    ISSUE_DELETE("issue.delete", true, Kind.WRITE),
+    ISSUE_SEARCH("issue.search", true, Kind.READ),
+    WORKLOG_GET("worklog.get", true, Kind.READ),
+    CHANGELOG_GET("changelog.get", true, Kind.READ),
+    COMMENT_ADD("comment.add", false, Kind.WRITE),
+    ATTACHMENT_UPLOAD("attachment.upload", false, Kind.ATTACHMENT),
+    ATTACHMENT_DOWNLOAD("attachment.download", true, Kind.ATTACHMENT);
+
+    public enum Kind {
+        READ,
+        WRITE,
+        ATTACHMENT
+    }
+
+    private final String tag;
+    private final boolean idempotent;
+    private final Kind kind;
+
+    JiraOperation(String tag, boolean idempotent, Kind kind) {
+        this.tag = tag;
+        this.idempotent = idempotent;
+        this.kind = kind;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    // Sending the call twice leaves Jira in the same state as sending it once
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+}
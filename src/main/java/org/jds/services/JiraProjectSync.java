@@ -0,0 +1,222 @@
+package org.jds.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jds.config.JiraProperties;
+import org.jds.entities.IssueRecord;
+import org.jds.entities.SyncWatermark;
+import org.jds.repositories.IssueRecordRepository;
+import org.jds.repositories.SyncWatermarkRepository;
+import org.joda.time.DateTime;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.atlassian.jira.rest.client.api.domain.BasicPriority;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.Resolution;
+import com.atlassian.jira.rest.client.api.domain.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mirrors the issues of the configured projects into the local database. The first
+ * run of a project pages through all of its issues, later runs only fetch issues
+ * updated since the watermark of the previous run. Pages are upserted in one
+ * transaction per batch and projects are synced in parallel.
+ * <p>
+ * Pages are read by key, each asking for the issues after the last key of the
+ * previous page, so issues deleted or moved out of the project while a run
+ * pages can't shift others out of it. Issues updated during the run are picked
+ * up again by the next one. Issues deleted in Jira are not removed.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+public class JiraProjectSync implements DisposableBean {
+
+    // JQL compares dates to the minute, in the time zone of the Jira user
+    static final DateTimeFormatter JQL_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+    static final Set<String> FIELDS = Set.of("summary", "description", "status", "issuetype", "priority",
+            "assignee", "reporter", "resolution", "created", "updated", "project");
+
+    private final JiraIssueSearch issueSearch;
+    private final IssueRecordRepository issueRecords;
+    private final SyncWatermarkRepository watermarks;
+    private final TransactionTemplate transactions;
+    private final JiraProperties.Sync settings;
+    private final MeterRegistry registry;
+    private final ZoneId timeZone;
+    private final ExecutorService executor;
+
+    public JiraProjectSync(JiraIssueSearch issueSearch, IssueRecordRepository issueRecords,
+            SyncWatermarkRepository watermarks, PlatformTransactionManager transactionManager,
+            JiraProperties properties, JiraMetrics metrics) {
+        this.issueSearch = issueSearch;
+        this.issueRecords = issueRecords;
+        this.watermarks = watermarks;
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.settings = properties.getSync();
+        this.registry = metrics.getRegistry();
+        this.timeZone = settings.getTimeZone() != null && !settings.getTimeZone().isEmpty()
+                ? ZoneId.of(settings.getTimeZone())
+                : ZoneId.systemDefault();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, settings.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "jira-sync-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${jira.sync.interval:PT5M}", initialDelayString = "${jira.sync.initial-delay:PT30S}")
+    public void scheduledSync() {
+        if (!settings.isEnabled() || settings.getProjects().isEmpty()) {
+            return;
+        }
+        sync(settings.getProjects());
+    }
+
+    // Sync the projects in parallel, results are in the order of the keys
+    public List<ProjectSyncResult> sync(Collection<String> projectKeys) {
+        log.info("JiraProjectSync.sync() - projects: {}", projectKeys);
+        List<CompletableFuture<ProjectSyncResult>> runs = new ArrayList<>(projectKeys.size());
+        for (String projectKey : projectKeys) {
+            runs.add(CompletableFuture.supplyAsync(() -> sync(projectKey), executor));
+        }
+        List<ProjectSyncResult> results = new ArrayList<>(runs.size());
+        runs.forEach(run -> results.add(run.join()));
+        return results;
+    }
+
+    public ProjectSyncResult sync(String projectKey) {
+        Instant started = Instant.now();
+        Optional<SyncWatermark> watermark = watermarks.findById(projectKey);
+        boolean initial = watermark.isEmpty();
+        String jql = initial ? projectJql(projectKey)
+                : incrementalJql(projectKey, watermark.get().getWatermark(), timeZone);
+        log.info("Syncing project {} - jql: {}", projectKey, jql);
+        long synced = 0;
+        Timer.Sample sample = Timer.start(registry);
+        try (Stream<Issue> issues = issueSearch.streamByKey(jql, FIELDS, settings.getPageSize())) {
+            Iterator<Issue> iterator = issues.iterator();
+            List<Issue> batch = new ArrayList<>(settings.getBatchSize());
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == settings.getBatchSize()) {
+                    synced += upsert(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                synced += upsert(batch);
+            }
+            // Issues updated while this run was paging are fetched again by the next one
+            saveWatermark(projectKey, started.minus(settings.getOverlap()), synced);
+        } catch (RuntimeException e) {
+            Duration duration = Duration.ofNanos(sample.stop(timer(projectKey, "failure")));
+            log.error("Sync of project {} failed after {} issues", projectKey, synced, e);
+            return ProjectSyncResult.failure(projectKey, initial, synced, duration, String.valueOf(e.getMessage()));
+        }
+        Duration duration = Duration.ofNanos(sample.stop(timer(projectKey, "success")));
+        registry.counter("jira.sync.issues", "project", projectKey).increment(synced);
+        log.info("Synced {} issues of project {} in {} ms", synced, projectKey, duration.toMillis());
+        return ProjectSyncResult.success(projectKey, initial, synced, duration);
+    }
+
+    private Timer timer(String projectKey, String outcome) {
+        return Timer.builder("jira.sync.duration")
+                .tags("project", projectKey, "outcome", outcome)
+                .register(registry);
+    }
+
+    // One transaction per batch: existing records are loaded with a single query, the rest inserted
+    private int upsert(List<Issue> batch) {
+        return transactions.execute(status -> {
+            List<String> keys = new ArrayList<>(batch.size());
+            batch.forEach(issue -> keys.add(issue.getKey()));
+            Map<String, IssueRecord> records = new HashMap<>();
+            issueRecords.findAllById(keys).forEach(record -> records.put(record.getIssueKey(), record));
+            Instant syncedAt = Instant.now();
+            for (Issue issue : batch) {
+                copy(issue, records.computeIfAbsent(issue.getKey(), IssueRecord::new), syncedAt);
+            }
+            issueRecords.saveAll(records.values());
+            return batch.size();
+        });
+    }
+
+    private void saveWatermark(String projectKey, Instant watermark, long synced) {
+        transactions.executeWithoutResult(status -> {
+            SyncWatermark progress = watermarks.findById(projectKey).orElseGet(() -> new SyncWatermark(projectKey));
+            progress.setWatermark(watermark);
+            progress.setLastSyncedAt(Instant.now());
+            progress.setLastSyncedIssues(synced);
+            watermarks.save(progress);
+        });
+    }
+
+    static void copy(Issue issue, IssueRecord record, Instant syncedAt) {
+        record.setIssueId(issue.getId());
+        record.setProjectKey(issue.getProject() != null ? issue.getProject().getKey()
+                : JiraMetrics.projectOf(issue.getKey()));
+        record.setSummary(issue.getSummary());
+        record.setDescription(issue.getDescription());
+        record.setStatus(issue.getStatus() != null ? issue.getStatus().getName() : null);
+        record.setIssueType(issue.getIssueType() != null ? issue.getIssueType().getName() : null);
+        BasicPriority priority = issue.getPriority();
+        record.setPriority(priority != null ? priority.getName() : null);
+        User assignee = issue.getAssignee();
+        record.setAssignee(assignee != null ? assignee.getName() : null);
+        User reporter = issue.getReporter();
+        record.setReporter(reporter != null ? reporter.getName() : null);
+        Resolution resolution = issue.getResolution();
+        record.setResolution(resolution != null ? resolution.getName() : null);
+        record.setCreated(toInstant(issue.getCreationDate()));
+        record.setUpdated(toInstant(issue.getUpdateDate()));
+        record.setSyncedAt(syncedAt);
+    }
+
+    private static Instant toInstant(DateTime dateTime) {
+        return dateTime != null ? Instant.ofEpochMilli(dateTime.getMillis()) : null;
+    }
+
+    static String projectJql(String projectKey) {
+        return "project = " + JiraIssueSearch.quote(projectKey);
+    }
+
+    static String incrementalJql(String projectKey, Instant watermark, ZoneId timeZone) {
+        return "project = " + JiraIssueSearch.quote(projectKey) + " AND updated >= \""
+                + JQL_DATE.format(watermark.atZone(timeZone)) + "\"";
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+}
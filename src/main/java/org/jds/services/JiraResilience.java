@@ -0,0 +1,308 @@
+package org.jds.services;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a stalled Jira from backing up the service. Every call has a timeout for
+ * its operation, reads, writes and attachments each run in their own bulkhead so
+ * slow uploads can't take the slots of issue reads, and a circuit breaker fails
+ * calls fast while most of the recent ones failed. Optionally, a read still
+ * running after the usual p95 latency of its operation is sent a second time and
+ * the first answer wins.
+ * <p>
+ * Calls rejected by a full bulkhead or an open circuit fail with
+ * {@link RejectedExecutionException}, calls over their timeout with
+ * {@link TimeoutException}; the request itself is bounded by the pool timeouts.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraResilience implements DisposableBean {
+
+    // Hedging waits until the p95 of an operation is known from this many calls
+    private static final int MIN_SAMPLES = 20;
+
+    private final JiraProperties.Resilience settings;
+    private final MeterRegistry registry;
+    private final Map<JiraOperation.Kind, Semaphore> bulkheads = new EnumMap<>(JiraOperation.Kind.class);
+    private final Map<JiraOperation, Latencies> latencies = new EnumMap<>(JiraOperation.class);
+    private final Set<JiraOperation> hedged = EnumSet.noneOf(JiraOperation.class);
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by itself
+    private final CircuitBreaker breaker;
+
+    public JiraResilience(JiraProperties properties, JiraMetrics metrics) {
+        this.settings = properties.getResilience();
+        this.registry = metrics.getRegistry();
+        this.breaker = new CircuitBreaker(settings.getCircuitWindow(), settings.getCircuitMinimumCalls(),
+                settings.getCircuitFailureRate(), settings.getCircuitOpenFor().toNanos(),
+                settings.getCircuitHalfOpenCalls());
+        bulkheads.put(JiraOperation.Kind.READ, new Semaphore(settings.getReadBulkhead()));
+        bulkheads.put(JiraOperation.Kind.WRITE, new Semaphore(settings.getWriteBulkhead()));
+        bulkheads.put(JiraOperation.Kind.ATTACHMENT, new Semaphore(settings.getAttachmentBulkhead()));
+        for (JiraOperation operation : JiraOperation.values()) {
+            latencies.put(operation, new Latencies(128));
+            if (settings.getHedgedOperations().contains(operation.getTag())) {
+                hedged.add(operation);
+            }
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jira-resilience");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("jira.client.circuit.state", this, resilience -> resilience.getCircuitState().ordinal())
+                .description("0 closed, 1 open, 2 half-open")
+                .register(registry);
+        bulkheads.forEach((kind, bulkhead) -> Gauge.builder("jira.client.bulkhead.available", bulkhead,
+                Semaphore::availablePermits)
+                .tag("kind", kind.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+    }
+
+    public <T> CompletableFuture<T> execute(JiraOperation operation, Supplier<CompletableFuture<T>> call) {
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        Call<T> tracked = new Call<>(operation, call);
+        RejectedExecutionException rejected = tracked.launch(false);
+        if (rejected != null) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+        Duration timeout = timeout(operation);
+        ScheduledFuture<?> timer = scheduler.schedule(() -> tracked.timeOut(timeout), timeout.toNanos(),
+                TimeUnit.NANOSECONDS);
+        tracked.result.whenComplete((value, failure) -> timer.cancel(false));
+        if (settings.isHedging() && hedged.contains(operation)) {
+            long hedgeAfter = latencies.get(operation).p95();
+            if (hedgeAfter > 0) {
+                long delay = Math.max(hedgeAfter, settings.getHedgeMinDelay().toNanos());
+                ScheduledFuture<?> hedge = scheduler.schedule(tracked::hedge, delay, TimeUnit.NANOSECONDS);
+                tracked.result.whenComplete((value, failure) -> hedge.cancel(false));
+            }
+        }
+        return tracked.result;
+    }
+
+    private Duration timeout(JiraOperation operation) {
+        Duration timeout = settings.getTimeouts().get(operation.getTag());
+        if (timeout != null) {
+            return timeout;
+        }
+        switch (operation.getKind()) {
+            case WRITE:
+                return settings.getWriteTimeout();
+            case ATTACHMENT:
+                return settings.getAttachmentTimeout();
+            default:
+                return settings.getReadTimeout();
+        }
+    }
+
+    // Take a slot in the bulkhead and the circuit breaker, or say why the call can't go out
+    private RejectedExecutionException acquire(JiraOperation operation, boolean hedge) {
+        Semaphore bulkhead = bulkheads.get(operation.getKind());
+        if (!bulkhead.tryAcquire()) {
+            return reject(operation, "bulkhead", "Too many " + operation.getKind().name().toLowerCase(Locale.ROOT)
+                    + " calls to Jira in flight");
+        }
+        boolean permitted;
+        synchronized (breaker) {
+            // Hedges would use up the trial calls of a half-open circuit
+            permitted = hedge ? breaker.getState() == CircuitBreaker.State.CLOSED
+                    : breaker.tryAcquire(System.nanoTime());
+        }
+        if (!permitted) {
+            bulkhead.release();
+            return reject(operation, "circuit", "Jira is failing, calls are rejected for "
+                    + settings.getCircuitOpenFor());
+        }
+        return null;
+    }
+
+    private RejectedExecutionException reject(JiraOperation operation, String reason, String message) {
+        registry.counter("jira.client.rejections", "operation", operation.getTag(), "reason", reason).increment();
+        return new RejectedExecutionException(message);
+    }
+
+    private void onOutcome(Throwable failure) {
+        synchronized (breaker) {
+            CircuitBreaker.State before = breaker.getState();
+            if (failure == null || isClientError(failure)) {
+                breaker.onSuccess();
+            } else if (isJiraFailure(failure)) {
+                breaker.onFailure(System.nanoTime());
+            } else {
+                breaker.onIgnored();
+            }
+            if (breaker.getState() != before) {
+                log.warn("Jira circuit breaker {} -> {}", before, breaker.getState());
+            }
+        }
+    }
+
+    // Jira answered, it is up even if it refused the call
+    private static boolean isClientError(Throwable failure) {
+        Integer status = JiraErrors.statusCode(failure);
+        return status != null && status >= 400 && status < 500;
+    }
+
+    // Jira didn't answer, or failed on its side; our own rejections and cancellations don't count
+    private static boolean isJiraFailure(Throwable failure) {
+        Throwable cause = JiraErrors.unwrap(failure);
+        if (cause instanceof RejectedExecutionException || cause instanceof CancellationException) {
+            return false;
+        }
+        Integer status = JiraErrors.statusCode(cause);
+        return status == null || status >= 500;
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        synchronized (breaker) {
+            return breaker.getState();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    // One logical call: the first attempt, maybe a hedge, and its timeout
+    private class Call<T> {
+        private final JiraOperation operation;
+        private final Supplier<CompletableFuture<T>> supplier;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        // Guarded by this
+        private int outstanding;
+        private boolean timedOut;
+
+        private Call(JiraOperation operation, Supplier<CompletableFuture<T>> supplier) {
+            this.operation = operation;
+            this.supplier = supplier;
+        }
+
+        private RejectedExecutionException launch(boolean hedge) {
+            RejectedExecutionException rejected = acquire(operation, hedge);
+            if (rejected != null) {
+                return rejected;
+            }
+            synchronized (this) {
+                outstanding++;
+            }
+            long start = System.nanoTime();
+            CompletableFuture<T> attempt;
+            try {
+                attempt = supplier.get();
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempt.whenComplete((value, failure) -> onAttempt(value, failure, System.nanoTime() - start));
+            return null;
+        }
+
+        private void onAttempt(T value, Throwable failure, long latencyNanos) {
+            bulkheads.get(operation.getKind()).release();
+            boolean last;
+            boolean late;
+            synchronized (this) {
+                last = --outstanding == 0;
+                late = timedOut;
+            }
+            if (failure == null) {
+                latencies.get(operation).record(latencyNanos);
+            }
+            // A timed out call was already counted as a failure
+            if (!late) {
+                onOutcome(failure);
+            }
+            if (failure == null) {
+                result.complete(value);
+            } else if (last) {
+                result.completeExceptionally(JiraErrors.unwrap(failure));
+            }
+        }
+
+        private void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            if (launch(true) == null) {
+                registry.counter("jira.client.hedges", "operation", operation.getTag()).increment();
+            }
+        }
+
+        private void timeOut(Duration timeout) {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                timedOut = true;
+            }
+            registry.counter("jira.client.timeouts", "operation", operation.getTag()).increment();
+            onOutcome(new TimeoutException());
+            result.completeExceptionally(new TimeoutException("Jira " + operation.getTag()
+                    + " call timed out after " + timeout.toMillis() + " ms"));
+        }
+    }
+
+    // Latest successful latencies of one operation, p95 recomputed every few samples
+    private static final class Latencies {
+
+        private final long[] samples;
+        private int next;
+        private int recorded;
+        private long p95;
+
+        private Latencies(int size) {
+            this.samples = new long[size];
+        }
+
+        private synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            recorded = Math.min(recorded + 1, samples.length);
+            if (recorded >= MIN_SAMPLES && next % 16 == 0) {
+                long[] sorted = Arrays.copyOf(samples, recorded);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(recorded * 0.95) - 1];
+            }
+        }
+
+        // 0 until enough calls completed
+        private synchronized long p95() {
+            return p95;
+        }
+    }
+
+}
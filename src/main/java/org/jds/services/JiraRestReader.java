@@ -0,0 +1,186 @@
+package org.jds.services;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.atlassian.jira.rest.client.api.domain.Worklog;
+import com.atlassian.jira.rest.client.internal.json.ChangelogJsonParser;
+import com.atlassian.jira.rest.client.internal.json.IssueJsonParser;
+import com.atlassian.jira.rest.client.internal.json.JsonObjectParser;
+import com.atlassian.jira.rest.client.internal.json.JsonParseUtil;
+import com.atlassian.jira.rest.client.internal.json.ProjectJsonParser;
+import com.atlassian.jira.rest.client.internal.json.SearchResultJsonParser;
+import com.atlassian.jira.rest.client.internal.json.UserJsonParser;
+import com.atlassian.jira.rest.client.internal.json.WorklogJsonParserV5;
+
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads Jira resources over {@link JiraHttpTransport} through {@link JiraHttpCache},
+ * parsing them with the Jira client's own parsers, so the results are the same
+ * domain objects. Calls pass the resilience policies and the throttle like those
+ * of {@link JiraClientPool}. Project, issue and user loads use it with the jdk
+ * transport or while the HTTP cache is enabled.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraRestReader {
+
+    // Histories read per call when an issue's changelog is paged
+    static final int CHANGELOG_PAGE = 100;
+
+    private final JiraHttpTransport transport;
+    private final JiraMetrics metrics;
+    private final JiraThrottle throttle;
+    private final JiraResilience resilience;
+    private final JiraHttpCache httpCache;
+
+    public JiraRestReader(JiraHttpTransport transport, JiraMetrics metrics, JiraThrottle throttle,
+            JiraResilience resilience, JiraHttpCache httpCache) {
+        this.transport = transport;
+        this.metrics = metrics;
+        this.throttle = throttle;
+        this.resilience = resilience;
+        this.httpCache = httpCache;
+    }
+
+    // Loads of projects, issues and users go through here instead of the Jira client
+    public boolean isEnabled() {
+        return transport.isEnabled() || httpCache.isEnabled();
+    }
+
+    public CompletableFuture<Project> getProject(String projectKey) {
+        return get(JiraOperation.PROJECT_GET, projectKey, "rest/api/2/project/" + encode(projectKey),
+                JiraThrottle.Priority.INTERACTIVE)
+                .thenApply(body -> parse(body, new ProjectJsonParser()));
+    }
+
+    public CompletableFuture<User> getUser(String userName) {
+        return get(JiraOperation.USER_GET, null, "rest/api/2/user?username=" + encode(userName),
+                JiraThrottle.Priority.INTERACTIVE)
+                .thenApply(body -> parse(body, new UserJsonParser()));
+    }
+
+    // Same expansions as the Jira client's getIssue
+    public CompletableFuture<Issue> getIssue(String issueKey) {
+        return get(JiraOperation.ISSUE_GET, JiraMetrics.projectOf(issueKey),
+                "rest/api/2/issue/" + encode(issueKey) + "?expand=names,schema", JiraThrottle.Priority.INTERACTIVE)
+                .thenApply(body -> parse(body, new IssueJsonParser()));
+    }
+
+    // A page of a JQL search, with expansions the Jira client's search doesn't offer
+    public CompletableFuture<SearchResult> search(String jql, Set<String> fields, String expand, int startAt,
+            int maxResults, JiraThrottle.Priority priority) {
+        String path = "rest/api/2/search?jql=" + encode(jql) + "&startAt=" + startAt + "&maxResults=" + maxResults
+                + "&fields=" + encode(String.join(",", fields))
+                + (expand != null ? "&expand=" + encode(expand) : "");
+        return get(JiraOperation.ISSUE_SEARCH, null, path, priority)
+                .thenApply(body -> parse(body, new SearchResultJsonParser()));
+    }
+
+    // A search page expanding the changelog, noting the issues whose embedded changelog is cut short
+    CompletableFuture<IssueSearchPage> searchWithChangelog(String jql, Set<String> fields, int startAt,
+            int maxResults, JiraThrottle.Priority priority) {
+        String path = "rest/api/2/search?jql=" + encode(jql) + "&startAt=" + startAt + "&maxResults=" + maxResults
+                + "&fields=" + encode(String.join(",", fields)) + "&expand=changelog";
+        return get(JiraOperation.ISSUE_SEARCH, null, path, priority)
+                .thenApply(body -> parse(body, json -> new IssueSearchPage(new SearchResultJsonParser().parse(json),
+                        truncatedChangelogs(json))));
+    }
+
+    // Issue key to changelog total for the issues embedding fewer histories than they have
+    static Map<String, Integer> truncatedChangelogs(JSONObject page) throws JSONException {
+        Map<String, Integer> totals = new HashMap<>();
+        JSONArray issues = page.optJSONArray("issues");
+        for (int index = 0; issues != null && index < issues.length(); index++) {
+            JSONObject issue = issues.getJSONObject(index);
+            JSONObject changelog = issue.optJSONObject("changelog");
+            if (changelog == null) {
+                continue;
+            }
+            JSONArray histories = changelog.optJSONArray("histories");
+            int embedded = histories != null ? histories.length() : 0;
+            int total = changelog.optInt("total", embedded);
+            if (total > embedded) {
+                totals.put(issue.getString("key"), total);
+            }
+        }
+        return totals;
+    }
+
+    // The whole changelog of the issue, a page at a time
+    public CompletableFuture<List<ChangelogGroup>> getChangelog(String issueKey, JiraThrottle.Priority priority) {
+        return getChangelog(issueKey, new ArrayList<>(), priority);
+    }
+
+    private CompletableFuture<List<ChangelogGroup>> getChangelog(String issueKey, List<ChangelogGroup> groups,
+            JiraThrottle.Priority priority) {
+        int startAt = groups.size();
+        return get(JiraOperation.CHANGELOG_GET, JiraMetrics.projectOf(issueKey), "rest/api/2/issue/"
+                + encode(issueKey) + "/changelog?startAt=" + startAt + "&maxResults=" + CHANGELOG_PAGE, priority)
+                .thenCompose(body -> {
+                    boolean last = parse(body, json -> {
+                        JSONArray values = json.getJSONArray("values");
+                        groups.addAll(JsonParseUtil.parseJsonArray(values, new ChangelogJsonParser()));
+                        return values.length() == 0 || json.optBoolean("isLast",
+                                startAt + values.length() >= json.optInt("total", 0));
+                    });
+                    return last ? CompletableFuture.completedFuture(groups)
+                            : getChangelog(issueKey, groups, priority);
+                });
+    }
+
+    // All the worklogs of the issue, issues only embed the first ones
+    public CompletableFuture<List<Worklog>> getWorklogs(Issue issue, JiraThrottle.Priority priority) {
+        return get(JiraOperation.WORKLOG_GET, JiraMetrics.projectOf(issue.getKey()),
+                "rest/api/2/issue/" + encode(issue.getKey()) + "/worklog", priority)
+                .thenApply(body -> parse(body, json -> new ArrayList<>(JsonParseUtil.parseJsonArray(
+                        json.getJSONArray("worklogs"), new WorklogJsonParserV5(issue.getSelf())))));
+    }
+
+    // Body of a GET of a path relative to the server
+    public CompletableFuture<byte[]> get(JiraOperation operation, String projectKey, String path,
+            JiraThrottle.Priority priority) {
+        return resilience.execute(operation, () -> throttle.execute(operation, priority, () -> {
+            Timer.Sample sample = metrics.start(operation);
+            return httpCache.send(transport.getHttpClient(), transport.get(path), "Get of " + path)
+                    .whenComplete((body, e) -> metrics.stop(sample, operation, projectKey, e));
+        }));
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static <T> T parse(byte[] body, JsonObjectParser<T> parser) {
+        try {
+            return parser.parse(new JSONObject(new String(body, StandardCharsets.UTF_8)));
+        } catch (JSONException e) {
+            throw new RestClientException(e);
+        }
+    }
+
+}
@@ -0,0 +1,285 @@
+package org.jds.services;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admits outbound Jira calls through a token bucket and an adaptive concurrency
+ * limit. Calls over the limit wait in a queue, interactive calls ahead of batch
+ * calls, and batch calls may only use {@code batchShare} of the limit so bulk jobs
+ * can't starve users. When Jira answers 429 or 503 the limit is cut, every call
+ * waits for the {@code Retry-After} Jira asked for (or an exponential backoff) and
+ * the throttled call is sent again.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraThrottle implements DisposableBean {
+
+    public enum Priority {
+        INTERACTIVE,
+        BATCH
+    }
+
+    private final JiraProperties.Throttle settings;
+    private final JiraMetrics metrics;
+    private final TokenBucket bucket;
+    private final AdaptiveConcurrencyLimit limit;
+    private final ScheduledExecutorService scheduler;
+
+    // Guarded by this
+    private final Deque<Attempt<?>> interactive = new ArrayDeque<>();
+    private final Deque<Attempt<?>> batch = new ArrayDeque<>();
+    private int inFlight;
+    private int batchInFlight;
+    private long pausedUntil = System.nanoTime();
+    private boolean wakeUpScheduled;
+    private boolean draining;
+    private boolean drainAgain;
+
+    public JiraThrottle(JiraProperties properties, JiraMetrics metrics) {
+        this.settings = properties.getThrottle();
+        this.metrics = metrics;
+        this.bucket = settings.getRequestsPerSecond() > 0
+                ? new TokenBucket(settings.getRequestsPerSecond(), settings.getBurst(), System.nanoTime())
+                : null;
+        this.limit = new AdaptiveConcurrencyLimit(settings.getInitialConcurrency(), settings.getMinConcurrency(),
+                settings.getMaxConcurrency(), settings.getLatencyTolerance(), settings.getBackoffRatio());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jira-throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("jira.client.throttle.limit", this, JiraThrottle::getLimit)
+                .description("Jira calls allowed in flight")
+                .register(metrics.getRegistry());
+        Gauge.builder("jira.client.throttle.queued", this, JiraThrottle::getQueued)
+                .description("Jira calls waiting for the throttle")
+                .register(metrics.getRegistry());
+    }
+
+    // Send the call once the throttle admits it, again while Jira throttles it
+    public <T> CompletableFuture<T> execute(JiraOperation operation, Priority priority,
+            Supplier<CompletableFuture<T>> call) {
+        if (!settings.isEnabled()) {
+            return call.get();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (interactive.size() + batch.size() >= settings.getMaxQueued()) {
+                result.completeExceptionally(new RejectedExecutionException(
+                        "Too many Jira calls waiting for the throttle: " + settings.getMaxQueued()));
+                return result;
+            }
+            queue(priority).addLast(new Attempt<>(operation, priority, call, result));
+        }
+        drain();
+        return result;
+    }
+
+    // Send every queued call the bucket and the limit allow. Calls completing while
+    // they are sent ask the draining thread for another pass instead of recursing.
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            List<Attempt<?>> ready = new ArrayList<>();
+            synchronized (this) {
+                drainAgain = false;
+                long now = System.nanoTime();
+                Deque<Attempt<?>> queue;
+                while ((queue = next()) != null) {
+                    long wait = pausedUntil - now;
+                    if (wait <= 0 && bucket != null) {
+                        wait = bucket.tryAcquire(now);
+                    }
+                    if (wait > 0) {
+                        wakeUp(wait);
+                        break;
+                    }
+                    Attempt<?> attempt = queue.pollFirst();
+                    inFlight++;
+                    if (attempt.priority == Priority.BATCH) {
+                        batchInFlight++;
+                    }
+                    ready.add(attempt);
+                }
+            }
+            ready.forEach(Attempt::send);
+            synchronized (this) {
+                if (!drainAgain) {
+                    draining = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    // Queue whose head may go out now, null when every call has to wait
+    private Deque<Attempt<?>> next() {
+        int current = limit.getLimit();
+        if (inFlight >= current) {
+            return null;
+        }
+        if (!interactive.isEmpty()) {
+            return interactive;
+        }
+        int batchLimit = Math.max(1, (int) (current * settings.getBatchShare()));
+        return !batch.isEmpty() && batchInFlight < batchLimit ? batch : null;
+    }
+
+    private void wakeUp(long delayNanos) {
+        if (wakeUpScheduled) {
+            return;
+        }
+        wakeUpScheduled = true;
+        scheduler.schedule(() -> {
+            synchronized (this) {
+                wakeUpScheduled = false;
+            }
+            drain();
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> void onComplete(Attempt<T> attempt, T value, Throwable failure, long latencyNanos) {
+        boolean throttled = failure != null && JiraErrors.isThrottled(failure);
+        boolean retry = false;
+        long delay = 0;
+        synchronized (this) {
+            if (failure == null) {
+                limit.onSuccess(attempt.operation, latencyNanos, inFlight);
+            } else if (throttled) {
+                limit.onThrottled();
+                delay = delayNanos(failure, attempt.retries);
+                long now = System.nanoTime();
+                if (now + delay - pausedUntil > 0) {
+                    pausedUntil = now + delay;
+                }
+                // A 429 is rejected before Jira does anything, a 503 may come after a write went through
+                retry = attempt.retries < settings.getMaxRetries()
+                        && (JiraErrors.statusCode(failure) == 429 || attempt.operation.isIdempotent());
+            }
+            inFlight--;
+            if (attempt.priority == Priority.BATCH) {
+                batchInFlight--;
+            }
+            if (retry) {
+                attempt.retries++;
+                queue(attempt.priority).addFirst(attempt);
+            }
+        }
+        if (throttled) {
+            Integer status = JiraErrors.statusCode(failure);
+            log.warn("Jira throttled {} with status {} - waiting {} ms - concurrency limit: {}",
+                    attempt.operation.getTag(), status, TimeUnit.NANOSECONDS.toMillis(delay), getLimit());
+            if (retry) {
+                metrics.recordRetry(attempt.operation, String.valueOf(status));
+            }
+        }
+        if (!retry) {
+            if (failure == null) {
+                attempt.result.complete(value);
+            } else {
+                attempt.result.completeExceptionally(failure instanceof CompletionException
+                        && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        }
+        drain();
+    }
+
+    // Wait asked for by Jira, otherwise an exponential backoff with jitter
+    private long delayNanos(Throwable failure, int retries) {
+        Duration retryAfter = JiraErrors.retryAfter(failure);
+        if (retryAfter != null) {
+            return retryAfter.toNanos();
+        }
+        long backoff = Math.min(settings.getMaxBackoff().toNanos(),
+                settings.getInitialBackoff().toNanos() << Math.min(retries, 20));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private Deque<Attempt<?>> queue(Priority priority) {
+        return priority == Priority.BATCH ? batch : interactive;
+    }
+
+    public synchronized int getLimit() {
+        return limit.getLimit();
+    }
+
+    public synchronized int getQueued() {
+        return interactive.size() + batch.size();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        List<Attempt<?>> pending = new ArrayList<>();
+        synchronized (this) {
+            pending.addAll(interactive);
+            pending.addAll(batch);
+            interactive.clear();
+            batch.clear();
+        }
+        pending.forEach(attempt -> attempt.result.completeExceptionally(
+                new RejectedExecutionException("Jira throttle is closed")));
+    }
+
+    private class Attempt<T> {
+        private final JiraOperation operation;
+        private final Priority priority;
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> result;
+        private int retries;
+
+        private Attempt(JiraOperation operation, Priority priority, Supplier<CompletableFuture<T>> call,
+                CompletableFuture<T> result) {
+            this.operation = operation;
+            this.priority = priority;
+            this.call = call;
+            this.result = result;
+        }
+
+        private void send() {
+            long start = System.nanoTime();
+            CompletableFuture<T> response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((value, e) -> onComplete(this, value, e, System.nanoTime() - start));
+        }
+    }
+
+}
@@ -0,0 +1,355 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.atlassian.jira.rest.client.api.domain.IssueType;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind mode for updates, assignments and comments. A write returns as soon
+ * as it is in the journal; writes to the same issue within {@code window} are
+ * coalesced and sent by a bounded pool of workers, one flush per issue at a time,
+ * without re-reading the issue first. Writes reach Jira at least once: those that
+ * failed without an answer from Jira, or were throttled, are retried with an
+ * exponential backoff that honours {@code Retry-After}, and a restart resends
+ * whatever the journal still holds. Writes still failing after
+ * {@code maxAttempts} are appended to the {@code deadLetters} file, one command
+ * per line, and dropped from the journal.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class JiraWriteBehindQueue implements DisposableBean {
+
+    private final JiraProperties.WriteBehind settings;
+    private final JiraClientPool clientPool;
+    private final JiraMetadataCache metadataCache;
+    private final URI serverUri;
+
+    private IssueWriteJournal journal;
+    private ScheduledExecutorService timer;
+    private ExecutorService workers;
+    private Counter commands;
+    private Counter flushes;
+    private Counter deadLetters;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // Guarded by this
+    private final Map<String, IssueWrites> pending = new HashMap<>();
+    private final Set<String> flushing = new HashSet<>();
+
+    public JiraWriteBehindQueue(JiraProperties properties, JiraClientPool clientPool,
+            JiraMetadataCache metadataCache, JiraMetrics metrics) throws IOException {
+        this.settings = properties.getWriteBehind();
+        this.clientPool = clientPool;
+        this.metadataCache = metadataCache;
+        this.serverUri = URI.create(properties.getUrl().endsWith("/") ? properties.getUrl()
+                : properties.getUrl() + "/");
+        if (!settings.isEnabled()) {
+            return;
+        }
+        this.timer = Executors.newSingleThreadScheduledExecutor(threads("jira-write-behind-timer"));
+        this.workers = Executors.newFixedThreadPool(settings.getWorkers(), threads("jira-write-behind"));
+        this.commands = metrics.getRegistry().counter("jira.write-behind.commands");
+        this.flushes = metrics.getRegistry().counter("jira.write-behind.flushes");
+        this.deadLetters = metrics.getRegistry().counter("jira.write-behind.dead-letters");
+        Gauge.builder("jira.write-behind.pending", this, JiraWriteBehindQueue::getPending)
+                .description("Issues with writes waiting to be sent to Jira")
+                .register(metrics.getRegistry());
+        this.journal = new IssueWriteJournal(Paths.get(settings.getJournal()), settings.isSyncOnWrite());
+        for (IssueCommand command : journal.open()) {
+            queue(command, null);
+        }
+    }
+
+    private static ThreadFactory threads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    // The returned future completes once Jira has the update, null fields are left as they are
+    public CompletableFuture<Void> update(String projectKey, String issueKey, String summary, String description,
+            String assignee, String issueType) {
+        return enqueue(IssueCommand.builder()
+                .type(IssueCommand.Type.UPDATE)
+                .issueKey(issueKey)
+                .projectKey(projectKey)
+                .summary(summary)
+                .description(description)
+                .assignee(assignee)
+                .issueType(issueType)
+                .build());
+    }
+
+    public CompletableFuture<Void> assign(String issueKey, String assignee) {
+        return enqueue(IssueCommand.builder()
+                .type(IssueCommand.Type.ASSIGN)
+                .issueKey(issueKey)
+                .assignee(assignee)
+                .build());
+    }
+
+    public CompletableFuture<Void> comment(String issueKey, String comment) {
+        return enqueue(IssueCommand.builder()
+                .type(IssueCommand.Type.COMMENT)
+                .issueKey(issueKey)
+                .comment(comment)
+                .build());
+    }
+
+    // Returns once the command is journaled
+    private CompletableFuture<Void> enqueue(IssueCommand command) {
+        if (!settings.isEnabled()) {
+            throw new IllegalStateException("Write-behind is disabled, set jira.write-behind.enabled");
+        }
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        // Queue in journal order, so the latest write to a field wins after a restart too
+        synchronized (this) {
+            try {
+                queue(journal.append(command), applied);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to journal " + command.getType() + " of "
+                        + command.getIssueKey(), e);
+            }
+        }
+        commands.increment();
+        return applied;
+    }
+
+    private synchronized void queue(IssueCommand command, CompletableFuture<Void> applied) {
+        String issueKey = command.getIssueKey();
+        IssueWrites writes = pending.get(issueKey);
+        if (writes == null) {
+            writes = new IssueWrites(issueKey);
+            pending.put(issueKey, writes);
+            // A flush in progress schedules the next one when it completes
+            if (!flushing.contains(issueKey)) {
+                schedule(issueKey);
+            }
+        }
+        writes.add(command, applied);
+    }
+
+    private void schedule(String issueKey) {
+        schedule(issueKey, settings.getWindow());
+    }
+
+    private void schedule(String issueKey, Duration delay) {
+        timer.schedule(() -> flush(issueKey), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void flush(String issueKey) {
+        if (flushing.contains(issueKey)) {
+            return;
+        }
+        IssueWrites writes = pending.remove(issueKey);
+        if (writes == null) {
+            return;
+        }
+        flushing.add(issueKey);
+        workers.execute(() -> apply(writes));
+    }
+
+    private void apply(IssueWrites writes) {
+        flushes.increment();
+        Throwable failure = null;
+        try {
+            send(writes);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        boolean transientFailure = failure != null && isTransient(failure);
+        boolean retry = transientFailure && writes.attempts + 1 < settings.getMaxAttempts();
+        Duration delay = settings.getWindow();
+        synchronized (this) {
+            flushing.remove(writes.issueKey);
+            if (retry) {
+                writes.attempts++;
+                delay = backoff(writes.attempts, settings.getWindow(), settings.getMaxBackoff(),
+                        JiraErrors.retryAfter(failure));
+                IssueWrites newer = pending.remove(writes.issueKey);
+                if (newer != null) {
+                    writes.addAll(newer);
+                }
+                pending.put(writes.issueKey, writes);
+            }
+            if (pending.containsKey(writes.issueKey) && !timer.isShutdown()) {
+                schedule(writes.issueKey, delay);
+            }
+        }
+        if (retry) {
+            log.warn("Jira write to {} failed, attempt {} of {}, retrying in {}", writes.issueKey,
+                    writes.attempts, settings.getMaxAttempts(), delay, failure);
+            return;
+        }
+        if (transientFailure) {
+            deadLetter(writes, failure);
+        }
+        try {
+            journal.complete(writes.sequences);
+        } catch (IOException e) {
+            log.error("Failed to journal the completed writes to {}", writes.issueKey, e);
+        }
+        for (CompletableFuture<Void> callback : writes.callbacks) {
+            if (failure == null) {
+                callback.complete(null);
+            } else {
+                callback.completeExceptionally(failure);
+            }
+        }
+        if (transientFailure) {
+            log.error("Jira writes to {} still failing after {} attempts, moved to {}", writes.issueKey,
+                    settings.getMaxAttempts(), settings.getDeadLetters(), failure);
+        } else if (failure != null) {
+            log.error("Jira rejected the writes to {}, dropping them", writes.issueKey, failure);
+        } else {
+            log.info("Flushed {} writes to issue: {}", writes.sequences.size(), writes.issueKey);
+        }
+    }
+
+    // One update with the latest fields, then the comments in order
+    private void send(IssueWrites writes) {
+        String projectKey = writes.getProjectKey();
+        if (writes.hasUpdate()) {
+            IssueInputBuilder input = new IssueInputBuilder();
+            if (writes.summary != null) {
+                input.setSummary(writes.summary);
+            }
+            if (writes.description != null) {
+                input.setDescription(writes.description);
+            }
+            if (writes.assignee != null) {
+                input.setAssigneeName(writes.assignee);
+            }
+            if (writes.issueType != null) {
+                IssueType type = Promises.join(metadataCache.getIssueType(projectKey, writes.issueType));
+                if (type == null) {
+                    throw new IllegalArgumentException("Issue type " + writes.issueType
+                            + " doesn't exist in project " + projectKey);
+                }
+                input.setIssueTypeId(type.getId());
+            }
+            clientPool.call(JiraOperation.ISSUE_UPDATE, projectKey, JiraThrottle.Priority.BATCH,
+                    client -> client.getIssueClient().updateIssue(writes.issueKey, input.build())).claim();
+            writes.updated();
+        }
+        URI commentsUri = serverUri.resolve("rest/api/2/issue/" + writes.issueKey + "/comment");
+        while (!writes.comments.isEmpty()) {
+            Comment comment = Comment.valueOf(writes.comments.get(0));
+            clientPool.call(JiraOperation.COMMENT_ADD, projectKey, JiraThrottle.Priority.BATCH,
+                    client -> client.getIssueClient().addComment(commentsUri, comment)).claim();
+            writes.comments.remove(0);
+        }
+    }
+
+    // Keeps the unsent writes for an operator to replay, they are logged if even that fails
+    private void deadLetter(IssueWrites writes, Throwable failure) {
+        deadLetters.increment();
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (IssueCommand command : writes.toCommands()) {
+                lines.append(mapper.writeValueAsString(command)).append('\n');
+            }
+            Path file = Paths.get(settings.getDeadLetters());
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to dead-letter the writes to {}: {}", writes.issueKey, lines, e);
+        }
+    }
+
+    // Jira never answered, failed on its side or asked us to slow down, the same writes may go through later
+    static boolean isTransient(Throwable failure) {
+        if (failure instanceof IllegalArgumentException) {
+            return false;
+        }
+        Integer status = JiraErrors.statusCode(failure);
+        return status == null || status == 408 || status == 429 || status >= 500;
+    }
+
+    // window doubled per failed attempt up to maxBackoff, but never sooner than Jira asked for
+    static Duration backoff(int attempts, Duration window, Duration maxBackoff, Duration retryAfter) {
+        Duration delay = maxBackoff;
+        if (attempts - 1 < 31) {
+            long millis = window.toMillis() << (attempts - 1);
+            if (millis >= 0 && millis < maxBackoff.toMillis()) {
+                delay = Duration.ofMillis(millis);
+            }
+        }
+        if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+            delay = retryAfter;
+        }
+        return delay;
+    }
+
+    public synchronized int getPending() {
+        return pending.size();
+    }
+
+    // Send everything queued now and wait for it, what doesn't make it stays in the journal
+    @Override
+    public void destroy() throws IOException, InterruptedException {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        timer.shutdownNow();
+        List<String> issueKeys;
+        synchronized (this) {
+            issueKeys = new ArrayList<>(pending.keySet());
+        }
+        issueKeys.forEach(this::flush);
+        workers.shutdown();
+        if (!workers.awaitTermination(settings.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Jira writes still pending at shutdown, they will be sent on the next start");
+            workers.shutdownNow();
+        }
+        journal.close();
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.jds.services;
+
+import java.nio.charset.StandardCharsets;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.codehaus.jettison.json.JSONTokener;
+
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+
+/**
+ * Issue field holding its value as the raw JSON of the response it came from.
+ * The value is parsed on first access, into the same JSON types the Jira client
+ * uses, so fields that are never read cost no parsing.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LazyIssueField extends IssueField {
+
+    private final byte[] json;
+    private final int offset;
+    private final int length;
+
+    private volatile Object value;
+    private volatile boolean parsed;
+
+    LazyIssueField(String id, String name, String type, byte[] json, int offset, int length) {
+        super(id, name, type, null);
+        this.json = json;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public Object getValue() {
+        if (!parsed) {
+            synchronized (this) {
+                if (!parsed) {
+                    value = parse();
+                    parsed = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    private Object parse() {
+        try {
+            Object parsedValue = new JSONTokener(new String(json, offset, length, StandardCharsets.UTF_8))
+                    .nextValue();
+            return parsedValue != JSONObject.NULL ? parsedValue : null;
+        } catch (JSONException e) {
+            throw new IllegalStateException("Invalid JSON value of field " + getId(), e);
+        }
+    }
+
+    // Raw JSON of the value, without parsing it
+    String getRawValue() {
+        return new String(json, offset, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyIssueField{id=" + getId() + ", name=" + getName() + ", type=" + getType() + "}";
+    }
+
+}
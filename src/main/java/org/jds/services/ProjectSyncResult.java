@@ -0,0 +1,34 @@
+package org.jds.services;
+
+import java.time.Duration;
+
+import lombok.Value;
+
+/**
+ * Outcome of syncing one project, the number of issues written or the error.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Value
+public class ProjectSyncResult {
+    String projectKey;
+    boolean initial;
+    long issues;
+    Duration duration;
+    String error;
+
+    public static ProjectSyncResult success(String projectKey, boolean initial, long issues, Duration duration) {
+        return new ProjectSyncResult(projectKey, initial, issues, duration, null);
+    }
+
+    public static ProjectSyncResult failure(String projectKey, boolean initial, long issues, Duration duration,
+            String error) {
+        return new ProjectSyncResult(projectKey, initial, issues, duration, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,66 @@
+package org.jds.services;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import com.atlassian.util.concurrent.Promise;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Bridges the Atlassian {@link Promise} returned by the Jira client to {@link CompletableFuture}.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Promises {
+
+    private Promises() {
+    }
+
+    // Complete a CompletableFuture from the promise without blocking any thread
+    static <T> CompletableFuture<T> toCompletableFuture(Promise<T> promise) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        promise.addListener(() -> {
+            try {
+                future.complete(promise.get());
+            } catch (ExecutionException e) {
+                future.completeExceptionally(e.getCause());
+            } catch (CancellationException e) {
+                future.cancel(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            }
+        }, Runnable::run);
+        return future;
+    }
+
+    // Expose a CompletableFuture through the Promise API of the Jira client
+    static <T> Promise<T> toPromise(CompletableFuture<T> future) {
+        SettableFuture<T> settable = SettableFuture.create();
+        future.whenComplete((value, e) -> {
+            if (e == null) {
+                settable.set(value);
+            } else {
+                settable.setException(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        });
+        return com.atlassian.util.concurrent.Promises.forListenableFuture(settable);
+    }
+
+    // Wait for the future, rethrowing the original failure like Promise.claim() does
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.jds.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.util.List;
+
+import org.jds.services.CommentMatch;
+import org.jds.services.IssueOperationResult;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraJsonTest {
+
+	@Test
+	void testCommentMatchCarriesItsIssue() {
+		DateTime created = new DateTime(2026, 10, 18, 9, 0, DateTimeZone.UTC);
+		Comment comment = new Comment(URI.create("https://jira.example.com/rest/api/2/issue/10000/comment/10100"),
+				"Deployed to staging", null, null, created, created, null, 10100L);
+
+		ObjectNode json = JiraJson.comment(new CommentMatch("JDS-1", comment));
+
+		assertEquals("JDS-1", json.get("issueKey").asText());
+		assertEquals(10100L, json.get("id").asLong());
+		assertEquals("Deployed to staging", json.get("body").asText());
+		assertEquals("2026-10-18T09:00:00.000Z", json.get("created").asText());
+		assertEquals(true, json.get("author").isNull());
+	}
+
+	@Test
+	void testResultsKeepErrorsPerKey() {
+		ArrayNode json = JiraJson.results(List.of(IssueOperationResult.<Void>success(0, "JDS-1", null),
+				IssueOperationResult.<Void>failure(1, "JDS-2", "Issue JDS-2 doesn't exist")), null);
+
+		assertEquals(2, json.size());
+		assertEquals("JDS-1", json.get(0).get("issueKey").asText());
+		assertFalse(json.get(1).get("success").asBoolean());
+		assertEquals("Issue JDS-2 doesn't exist", json.get(1).get("error").asText());
+	}
+
+	@Test
+	void testIdIsTheLastSegmentOfTheUri() {
+		assertEquals(10200L, JiraJson.idOf(URI.create("https://jira.example.com/rest/api/2/attachment/10200")));
+		assertNull(JiraJson.idOf(URI.create("https://jira.example.com/rest/api/2/attachment/content")));
+		assertNull(JiraJson.idOf(null));
+	}
+
+}
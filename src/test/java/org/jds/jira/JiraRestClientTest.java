@@ -11,9 +11,30 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.concurrent.ExecutionException;
 
+import org.jds.config.JiraProperties;
 import org.jds.services.JIRAService;
 import org.jds.services.JIRAServiceImpl;
+import org.jds.services.JiraAttachmentIndex;
+import org.jds.services.JiraAttachmentTransfer;
+import org.jds.services.JiraBulkIssueCreator;
+import org.jds.services.JiraClientPool;
+import org.jds.services.JiraCommentIndex;
+import org.jds.services.JiraExistenceChecks;
+import org.jds.services.JiraFieldReader;
+import org.jds.services.JiraHttpCache;
+import org.jds.services.JiraHttpTransport;
+import org.jds.services.JiraIssueBatcher;
+import org.jds.services.JiraIssueOperations;
+import org.jds.services.JiraIssueSearch;
+import org.jds.services.JiraIssueStore;
+import org.jds.services.JiraMetadataCache;
+import org.jds.services.JiraMetrics;
+import org.jds.services.JiraResilience;
+import org.jds.services.JiraRestReader;
+import org.jds.services.JiraThrottle;
+import org.jds.services.JiraWriteBehindQueue;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -32,6 +53,8 @@ import com.atlassian.jira.rest.client.api.domain.input.IssueInputBuilder;
 import com.atlassian.jira.rest.client.internal.async.AsynchronousJiraRestClientFactory;
 import com.atlassian.util.concurrent.Promise;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -41,8 +64,10 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * For this test case to run you need to have Jira server running on localhost:8081.
  * docker run -d --name jira -e JVM_SUPPORT_RECOMMENDED_ARGS=-Datlassian.recovery.password=demo -p 8081:8080 atlassian/jira-software:latest
+ * It is tagged live and left out of mvn test, run it with mvn test -Dtest.excluded.groups=
  */
 @Slf4j
+@Tag("live")
 public class JiraRestClientTest {
 
 	private static final String ADMIN = "admin";
@@ -77,12 +102,40 @@ public class JiraRestClientTest {
 	static JIRAService jiraService;
 
 	@BeforeAll
-	public static void setup() {
+	public static void setup() throws IOException {
 		log.info("JiraRestClientTest.setup()");
 		uri = URI.create(HTTP_JIRA_URL);
 		factory = new AsynchronousJiraRestClientFactory();
 		restClient = factory.createWithBasicHttpAuthentication(uri, USERNAME, PASSWORD);
-		jiraService = new JIRAServiceImpl();
+		JiraProperties properties = new JiraProperties();
+		properties.setUrl(HTTP_JIRA_URL);
+		properties.setUsername(USERNAME);
+		properties.setPassword(PASSWORD);
+		JiraMetrics metrics = new JiraMetrics(new SimpleMeterRegistry());
+		JiraThrottle throttle = new JiraThrottle(properties, metrics);
+		JiraResilience resilience = new JiraResilience(properties, metrics);
+		JiraClientPool clientPool = new JiraClientPool(properties, metrics, throttle, resilience);
+		JiraHttpTransport transport = new JiraHttpTransport(properties);
+		JiraRestReader restReader = new JiraRestReader(transport, metrics, throttle, resilience,
+				new JiraHttpCache(properties, metrics));
+		JiraMetadataCache metadataCache = new JiraMetadataCache(clientPool, restReader, properties);
+		JiraIssueSearch issueSearch = new JiraIssueSearch(clientPool, properties);
+		JiraAttachmentTransfer attachmentTransfer = new JiraAttachmentTransfer(transport, metrics, throttle,
+				resilience);
+		JiraAttachmentIndex attachmentIndex = new JiraAttachmentIndex(attachmentTransfer, issueSearch,
+				properties, metrics);
+		JiraCommentIndex commentIndex = new JiraCommentIndex(properties, metrics);
+		JiraWriteBehindQueue writeBehind = new JiraWriteBehindQueue(properties, clientPool, metadataCache, metrics);
+		JiraIssueStore issueStore = new JiraIssueStore(new JiraIssueBatcher(clientPool, restReader, properties, metrics),
+				issueSearch, properties, metrics);
+		JiraExistenceChecks existenceChecks = new JiraExistenceChecks(clientPool, metadataCache, properties);
+		jiraService = new JIRAServiceImpl(clientPool, metadataCache,
+				new JiraBulkIssueCreator(clientPool, metadataCache, existenceChecks, properties), issueSearch,
+				attachmentTransfer, writeBehind, issueStore, existenceChecks,
+				new JiraFieldReader(properties, restReader),
+				new JiraIssueOperations(clientPool, issueStore, writeBehind, attachmentIndex, commentIndex,
+						properties),
+				attachmentIndex, commentIndex);
 	}
 
 	@Test  
@@ -0,0 +1,74 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ArrowTableWriterTest {
+
+	private static final Schema SCHEMA = ArrowTableWriter.schema(ArrowTableWriter.text("key"),
+			ArrowTableWriter.number("minutes"), ArrowTableWriter.timestamp("started"));
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testWritesRowsInBatches() throws IOException {
+		Path file = directory.resolve("worklogs.arrow");
+		DateTime started = new DateTime(2026, 10, 18, 9, 0);
+		try (BufferAllocator allocator = new RootAllocator();
+				ArrowTableWriter table = new ArrowTableWriter(file, SCHEMA, allocator, 2)) {
+			for (int row = 0; row < 5; row++) {
+				table.setText(0, "JDS-" + row);
+				// Every other row without minutes
+				table.setNumber(1, row % 2 == 0 ? (long) row * 30 : null);
+				table.setTime(2, started.plusHours(row));
+				table.endRow();
+			}
+			assertEquals(5, table.getRows());
+		}
+
+		try (BufferAllocator allocator = new RootAllocator();
+				ArrowFileReader reader = new ArrowFileReader(FileChannel.open(file), allocator)) {
+			assertEquals(3, reader.getRecordBlocks().size());
+			int row = 0;
+			while (reader.loadNextBatch()) {
+				VectorSchemaRoot root = reader.getVectorSchemaRoot();
+				VarCharVector keys = (VarCharVector) root.getVector("key");
+				BigIntVector minutes = (BigIntVector) root.getVector("minutes");
+				TimeStampMilliTZVector starts = (TimeStampMilliTZVector) root.getVector("started");
+				for (int index = 0; index < root.getRowCount(); index++, row++) {
+					assertEquals("JDS-" + row, keys.getObject(index).toString());
+					if (row % 2 == 0) {
+						assertEquals(row * 30L, minutes.get(index));
+					} else {
+						assertTrue(minutes.isNull(index));
+					}
+					assertEquals(started.plusHours(row).getMillis(), starts.get(index));
+				}
+			}
+			assertEquals(5, row);
+		}
+	}
+
+}
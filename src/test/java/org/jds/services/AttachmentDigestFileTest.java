@@ -0,0 +1,54 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AttachmentDigestFileTest {
+
+	private static final String DIGEST = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testRecoversDigestsAndRemovals() throws IOException {
+		Path file = directory.resolve("attachment-index");
+		AttachmentDigestFile digests = new AttachmentDigestFile(file);
+		digests.open();
+		digests.put("JDS-1", DIGEST, 10000L);
+		digests.put("JDS-1", "other", 10001L);
+		digests.put("JDS-2", DIGEST, 10002L);
+		digests.remove("JDS-1", 10001L);
+		digests.remove("JDS-2");
+		digests.close();
+
+		AttachmentDigestFile reopened = new AttachmentDigestFile(file);
+		reopened.open();
+		assertEquals(10000L, reopened.get("JDS-1", DIGEST));
+		assertNull(reopened.get("JDS-1", "other"));
+		assertNull(reopened.get("JDS-2", DIGEST));
+		assertEquals(1, reopened.getIssues());
+		reopened.close();
+	}
+
+	@Test
+	void testHashesFileContent() throws IOException {
+		Path file = Files.write(directory.resolve("build.log"), "hello".getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(DIGEST, JiraAttachmentIndex.sha256(file));
+	}
+
+}
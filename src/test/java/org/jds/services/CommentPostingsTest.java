@@ -0,0 +1,115 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jds.config.JiraProperties;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Comment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CommentPostingsTest {
+
+	@Test
+	void testFindsWhatContainsFinds() {
+		CommentPostings postings = new CommentPostings();
+		postings.put("JDS-1", 1L, Comment.valueOf("Build 42 failed: see the report attached"));
+		postings.put("JDS-1", 2L, Comment.valueOf("Deployed to staging"));
+		postings.put("JDS-2", 3L, Comment.valueOf("The report is ready"));
+
+		assertEquals(1, postings.find("see the report", "JDS-1").size());
+		// Partial words at either end, as String.contains would match them
+		assertEquals(1, postings.find("ild 42 fai", "JDS-1").size());
+		assertEquals(2, postings.find("epor", null).size());
+		assertEquals(1, postings.find("d to stag", null).size());
+		assertEquals(1, postings.find(": see", null).size());
+		// Case and punctuation are checked against the body
+		assertTrue(postings.find("build 42", null).isEmpty());
+		assertTrue(postings.find("42 failed see", null).isEmpty());
+		assertTrue(postings.find("report", "JDS-3").isEmpty());
+	}
+
+	@Test
+	void testReplacedAndRemovedCommentsAreNotFound() {
+		CommentPostings postings = new CommentPostings();
+		for (long id = 0; id < 3000; id++) {
+			postings.put("JDS-" + id % 10, id, Comment.valueOf("draft " + id));
+		}
+		for (long id = 0; id < 3000; id++) {
+			postings.put("JDS-" + id % 10, id, Comment.valueOf("final " + id));
+		}
+		postings.remove("JDS-7", 7L);
+
+		assertEquals(2999, postings.getComments());
+		assertTrue(postings.find("draft", null).isEmpty());
+		assertEquals(1, postings.find("final 1234", null).size());
+		assertTrue(postings.find("final 7", "JDS-7").stream()
+				.noneMatch(match -> match.getComment().getBody().equals("final 7")));
+	}
+
+	@Test
+	void testReindexesOnlyChangedComments() {
+		JiraProperties properties = new JiraProperties();
+		properties.getCommentIndex().setEnabled(true);
+		JiraCommentIndex index = new JiraCommentIndex(properties, new JiraMetrics(new SimpleMeterRegistry()));
+		DateTime created = new DateTime(2026, 10, 18, 9, 0);
+
+		index.added("JDS-1", "Nightly build failed");
+		assertTrue(index.contains("JDS-1", "build failed"));
+		assertFalse(index.isCurrent("JDS-1"));
+
+		index.index("JDS-1", List.of(comment(10L, "Nightly build failed", created),
+				comment(11L, "Rerun scheduled", created)));
+		assertTrue(index.isCurrent("JDS-1"));
+		assertEquals(2, index.getComments());
+
+		index.index("JDS-1", List.of(comment(11L, "Rerun passed", created.plusMinutes(5))));
+		assertFalse(index.contains("JDS-1", "Nightly"));
+		assertTrue(index.contains("JDS-1", "Rerun passed"));
+		assertEquals(1, index.search("passed").size());
+
+		index.invalidate("JDS-1");
+		assertFalse(index.isCurrent("JDS-1"));
+		index.forget("JDS-1");
+		assertEquals(0, index.getComments());
+	}
+
+	@Test
+	void testEvictsTheLeastRecentlyUsedIssues() {
+		JiraProperties properties = new JiraProperties();
+		properties.getCommentIndex().setEnabled(true);
+		properties.getCommentIndex().setMaxIssues(2);
+		JiraCommentIndex index = new JiraCommentIndex(properties, new JiraMetrics(new SimpleMeterRegistry()));
+		DateTime created = new DateTime(2026, 10, 18, 9, 0);
+
+		index.index("JDS-1", List.of(comment(1L, "First issue", created)));
+		index.index("JDS-2", List.of(comment(2L, "Second issue", created)));
+		// A check keeps JDS-1 in use, so JDS-2 is the one to go
+		assertTrue(index.contains("JDS-1", "First"));
+		index.index("JDS-3", List.of(comment(3L, "Third issue", created)));
+
+		assertEquals(2, index.getIssues());
+		assertEquals(2, index.getComments());
+		assertTrue(index.isCurrent("JDS-1"));
+		assertFalse(index.isCurrent("JDS-2"));
+		assertFalse(index.contains("JDS-2", "Second"));
+		assertTrue(index.contains("JDS-3", "Third"));
+		assertEquals(2, index.search("issue").size());
+	}
+
+	private static Comment comment(long id, String body, DateTime updated) {
+		return new Comment(null, body, null, null, updated, updated, null, id);
+	}
+
+}
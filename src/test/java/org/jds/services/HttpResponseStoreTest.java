@@ -0,0 +1,64 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class HttpResponseStoreTest {
+
+	private static final String PROJECT_URI = "http://jira/rest/api/2/project/JDS";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testEntriesSurviveReopening() throws IOException {
+		HttpResponseStore store = new HttpResponseStore(directory, 1024 * 1024);
+		store.open();
+		store.put(PROJECT_URI, "\"v1\"", null, 1000L, body("{\"key\":\"JDS\"}"));
+		store.revalidated(store.get(PROJECT_URI), 2000L);
+		store.close();
+
+		HttpResponseStore reopened = new HttpResponseStore(directory, 1024 * 1024);
+		reopened.open();
+		HttpResponseStore.Entry entry = reopened.get(PROJECT_URI);
+		assertNotNull(entry);
+		assertEquals("\"v1\"", entry.getEtag());
+		assertNull(entry.getLastModified());
+		assertEquals(2000L, entry.getValidatedAt());
+		assertArrayEquals(body("{\"key\":\"JDS\"}"), reopened.body(entry));
+	}
+
+	@Test
+	void testEvictsLeastRecentlyUsedEntries() throws IOException {
+		HttpResponseStore store = new HttpResponseStore(directory, 600);
+		store.open();
+		store.put("http://jira/1", "\"1\"", null, 1L, new byte[200]);
+		store.put("http://jira/2", "\"2\"", null, 2L, new byte[200]);
+		store.get("http://jira/1");
+		store.put("http://jira/3", "\"3\"", null, 3L, new byte[200]);
+
+		assertNotNull(store.get("http://jira/1"));
+		assertNull(store.get("http://jira/2"));
+		assertNotNull(store.get("http://jira/3"));
+		assertEquals(2, store.getEntries());
+	}
+
+	private static byte[] body(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
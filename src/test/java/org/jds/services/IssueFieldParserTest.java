@@ -0,0 +1,149 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.codehaus.jettison.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.internal.json.IssueJsonParser;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IssueFieldParserTest {
+
+	@Test
+	void testEscapedQuotesAndBackslashes() {
+		List<IssueField> fields = parse("{\"fields\": {\"customfield_1\": \"say \\\"hi\\\" to C:\\\\temp\\\\\","
+				+ " \"customfield_2\": \"\\\\\"}}", null);
+
+		assertEquals("say \"hi\" to C:\\temp\\", value(fields, "customfield_1"));
+		assertEquals("\\", value(fields, "customfield_2"));
+	}
+
+	@Test
+	void testMultibyteCharactersBeforeAndInsideValues() {
+		List<IssueField> fields = parse("{\"names\": {\"customfield_1\": \"\u00dcberschrift \u2713\"}, \"fields\":"
+				+ " {\"customfield_1\": \"na\u00efve caf\u00e9 \ud83d\ude80\","
+				+ " \"customfield_2\": \"\u65e5\u672c\u8a9e\"}}", null);
+
+		assertEquals("na\u00efve caf\u00e9 \ud83d\ude80", value(fields, "customfield_1"));
+		assertEquals("\u65e5\u672c\u8a9e", value(fields, "customfield_2"));
+		assertEquals("\u00dcberschrift \u2713", field(fields, "customfield_1").getName());
+	}
+
+	@Test
+	void testNullNumberAndNestedValues() throws Exception {
+		List<IssueField> fields = parse("{\"fields\": {\"customfield_1\": null, \"customfield_2\": 3.5,"
+				+ " \"customfield_3\": {\"value\": \"High\", \"child\": {\"ids\": [1, 2]}},"
+				+ " \"customfield_4\": [{\"name\": \"a\"}, [\"b\", null]], \"customfield_5\": true}}", null);
+
+		assertNull(value(fields, "customfield_1"));
+		assertEquals(3.5, ((Number) value(fields, "customfield_2")).doubleValue());
+		JSONObject option = (JSONObject) value(fields, "customfield_3");
+		assertEquals("High", option.getString("value"));
+		assertEquals(2, option.getJSONObject("child").getJSONArray("ids").getInt(1));
+		JSONArray values = (JSONArray) value(fields, "customfield_4");
+		assertEquals("a", values.getJSONObject(0).getString("name"));
+		assertEquals("b", values.getJSONArray(1).getString(0));
+		assertEquals(Boolean.TRUE, value(fields, "customfield_5"));
+		assertEquals("[{\"name\": \"a\"}, [\"b\", null]]",
+				((LazyIssueField) field(fields, "customfield_4")).getRawValue());
+	}
+
+	@Test
+	void testSystemFieldsAreSkipped() {
+		List<IssueField> fields = parse("{\"fields\": {\"summary\": \"Summary\", \"status\": {\"name\": \"Open\"},"
+				+ " \"customfield_1\": \"value\"}}", null);
+
+		assertEquals(List.of("customfield_1"), ids(fields));
+	}
+
+	@Test
+	void testOnlyRequestedFieldsInResponseOrder() {
+		List<IssueField> fields = parse("{\"fields\": {\"customfield_3\": {\"a\": [1]}, \"customfield_1\": \"one\","
+				+ " \"customfield_2\": \"two\", \"summary\": \"Summary\"}}",
+				Set.of("customfield_1", "customfield_3", "summary"));
+
+		assertEquals(List.of("customfield_3", "customfield_1"), ids(fields));
+		assertEquals("one", value(fields, "customfield_1"));
+	}
+
+	@Test
+	void testNamesAndTypesFromTheirSections() {
+		List<IssueField> fields = parse("{\"expand\": \"names,schema\", \"fields\": {\"customfield_1\": 5},"
+				+ " \"names\": {\"customfield_1\": \"Story Points\"},"
+				+ " \"schema\": {\"customfield_1\": {\"type\": \"number\", \"custom\": \"float\", \"customId\": 1}}}",
+				null);
+
+		IssueField field = field(fields, "customfield_1");
+		assertEquals("Story Points", field.getName());
+		assertEquals("number", field.getType());
+	}
+
+	@Test
+	void testSameFieldsAsTheJiraClient() throws Exception {
+		String json = JiraTestData.issueJson();
+		Map<String, IssueField> expected = new HashMap<>();
+		for (IssueField field : new IssueJsonParser().parse(new JSONObject(json)).getFields()) {
+			expected.put(field.getId(), field);
+		}
+
+		List<IssueField> fields = IssueFieldParser.parse(json.getBytes(StandardCharsets.UTF_8), null);
+
+		assertEquals(expected.keySet(), Set.copyOf(ids(fields)));
+		for (IssueField field : fields) {
+			IssueField client = expected.get(field.getId());
+			assertEquals(client.getName(), field.getName(), field.getId());
+			assertEquals(client.getType(), field.getType(), field.getId());
+			assertEquals(String.valueOf(client.getValue()), String.valueOf(field.getValue()), field.getId());
+		}
+	}
+
+	@Test
+	void testValueIsParsedOnce() {
+		IssueField field = field(parse("{\"fields\": {\"customfield_1\": {\"value\": \"High\"}}}", null),
+				"customfield_1");
+
+		assertSame(field.getValue(), field.getValue());
+	}
+
+	private static List<IssueField> parse(String json, Set<String> fieldIds) {
+		return IssueFieldParser.parse(json.getBytes(StandardCharsets.UTF_8), fieldIds);
+	}
+
+	private static IssueField field(List<IssueField> fields, String id) {
+		for (IssueField field : fields) {
+			if (field.getId().equals(id)) {
+				return field;
+			}
+		}
+		throw new AssertionError("No field " + id);
+	}
+
+	private static Object value(List<IssueField> fields, String id) {
+		return field(fields, id).getValue();
+	}
+
+	private static List<String> ids(List<IssueField> fields) {
+		List<String> ids = new ArrayList<>();
+		for (IssueField field : fields) {
+			ids.add(field.getId());
+		}
+		return ids;
+	}
+
+}
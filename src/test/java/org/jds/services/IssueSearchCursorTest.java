@@ -0,0 +1,110 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IssueSearchCursorTest {
+
+	private static final Pattern AFTER = Pattern.compile("key > \"JDS-(\\d+)\"");
+
+	// Issues in the project, in key order; the tests remove some between pages
+	private final List<Issue> project = Collections.synchronizedList(new ArrayList<>());
+	private final List<String> searches = Collections.synchronizedList(new ArrayList<>());
+
+	@BeforeEach
+	void setUp() {
+		for (int number = 1; number <= 7; number++) {
+			project.add(JiraTestData.issue("JDS-" + number));
+		}
+	}
+
+	// Answers the searches from the project, by offset or after the key in the JQL
+	private IssueSearchCursor cursor(boolean byKey) {
+		return new IssueSearchCursor(null, "project = \"JDS\"", 3, null, byKey) {
+			@Override
+			CompletableFuture<SearchResult> search(String pageJql, int startAt) {
+				searches.add(pageJql + " - start " + startAt);
+				List<Issue> matching = new ArrayList<>();
+				Matcher after = AFTER.matcher(pageJql);
+				int afterNumber = after.find() ? Integer.parseInt(after.group(1)) : 0;
+				synchronized (project) {
+					project.stream().filter(issue -> number(issue) > afterNumber).forEach(matching::add);
+				}
+				List<Issue> page = matching.subList(Math.min(startAt, matching.size()),
+						Math.min(startAt + 3, matching.size()));
+				return CompletableFuture.completedFuture(new SearchResult(startAt, 3, matching.size(),
+						new ArrayList<>(page)));
+			}
+		};
+	}
+
+	private static int number(Issue issue) {
+		return Integer.parseInt(issue.getKey().substring("JDS-".length()));
+	}
+
+	// Reads the pages, removing JDS-2 once the first page was read
+	private List<String> readRemovingAnIssue(IssueSearchCursor cursor) {
+		List<String> keys = new ArrayList<>();
+		List<Issue> page = cursor.nextPage().join();
+		project.removeIf(issue -> issue.getKey().equals("JDS-2"));
+		while (!page.isEmpty()) {
+			page.forEach(issue -> keys.add(issue.getKey()));
+			page = cursor.nextPage().join();
+		}
+		return keys;
+	}
+
+	@Test
+	void testKeysetJql() {
+		assertEquals("project = \"JDS\" ORDER BY key ASC", IssueSearchCursor.keysetJql("project = \"JDS\"", null));
+		assertEquals("(project = \"JDS\" OR project = \"X\") AND key > \"JDS-3\" ORDER BY key ASC",
+				IssueSearchCursor.keysetJql("project = \"JDS\" OR project = \"X\"", "JDS-3"));
+	}
+
+	@Test
+	void testPagesByKeyAfterTheLastKeyOfEachPage() {
+		IssueSearchCursor cursor = cursor(true);
+		List<String> keys = new ArrayList<>();
+		for (List<Issue> page = cursor.nextPage().join(); !page.isEmpty(); page = cursor.nextPage().join()) {
+			page.forEach(issue -> keys.add(issue.getKey()));
+		}
+
+		assertEquals(List.of("JDS-1", "JDS-2", "JDS-3", "JDS-4", "JDS-5", "JDS-6", "JDS-7"), keys);
+		assertEquals(List.of("project = \"JDS\" ORDER BY key ASC - start 0",
+				"(project = \"JDS\") AND key > \"JDS-3\" ORDER BY key ASC - start 0",
+				"(project = \"JDS\") AND key > \"JDS-6\" ORDER BY key ASC - start 0"), searches);
+		assertTrue(cursor.isExhausted());
+	}
+
+	@Test
+	void testIssueRemovedWhilePagingByKeyDoesNotSkipOthers() {
+		assertEquals(List.of("JDS-1", "JDS-2", "JDS-3", "JDS-4", "JDS-5", "JDS-6", "JDS-7"),
+				readRemovingAnIssue(cursor(true)));
+	}
+
+	@Test
+	void testIssueRemovedWhilePagingByOffsetSkipsTheNextPageStart() {
+		// The prefetched second page was asked for before the removal, the third one shifted
+		assertEquals(List.of("JDS-1", "JDS-2", "JDS-3", "JDS-4", "JDS-5", "JDS-6"),
+				readRemovingAnIssue(cursor(false)));
+	}
+
+}
@@ -0,0 +1,73 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IssueWriteJournalTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testRecoversOutstandingCommands() throws IOException {
+		Path file = directory.resolve("writes.journal");
+		IssueWriteJournal journal = new IssueWriteJournal(file, false);
+		assertEquals(0, journal.open().size());
+		IssueCommand update = journal.append(IssueCommand.builder()
+				.type(IssueCommand.Type.UPDATE).issueKey("JDS-1").summary("Updated").build());
+		IssueCommand comment = journal.append(IssueCommand.builder()
+				.type(IssueCommand.Type.COMMENT).issueKey("JDS-1").comment("automated reply").build());
+		journal.append(IssueCommand.builder()
+				.type(IssueCommand.Type.ASSIGN).issueKey("JDS-2").assignee("admin").build());
+		journal.complete(List.of(update.getSequence()));
+		journal.close();
+
+		IssueWriteJournal reopened = new IssueWriteJournal(file, false);
+		List<IssueCommand> recovered = reopened.open();
+		assertEquals(2, recovered.size());
+		assertEquals(comment, recovered.get(0));
+		assertEquals("admin", recovered.get(1).getAssignee());
+
+		// New commands continue the sequence
+		IssueCommand next = reopened.append(IssueCommand.builder()
+				.type(IssueCommand.Type.COMMENT).issueKey("JDS-2").comment("done").build());
+		assertEquals(4, next.getSequence());
+
+		reopened.complete(List.of(2L, 3L, 4L));
+		reopened.close();
+		assertEquals(0, Files.size(file));
+	}
+
+	@Test
+	void testCoalescesWritesToAnIssue() {
+		IssueWrites writes = new IssueWrites("JDS-1");
+		writes.add(IssueCommand.builder().sequence(1).type(IssueCommand.Type.UPDATE).issueKey("JDS-1")
+				.summary("First").description("Description").build(), null);
+		writes.add(IssueCommand.builder().sequence(2).type(IssueCommand.Type.COMMENT).issueKey("JDS-1")
+				.comment("automated reply").build(), null);
+		writes.add(IssueCommand.builder().sequence(3).type(IssueCommand.Type.UPDATE).issueKey("JDS-1")
+				.summary("Second").build(), null);
+		writes.add(IssueCommand.builder().sequence(4).type(IssueCommand.Type.ASSIGN).issueKey("JDS-1")
+				.assignee("admin").build(), null);
+
+		assertEquals("Second", writes.summary);
+		assertEquals("Description", writes.description);
+		assertEquals("admin", writes.assignee);
+		assertEquals(List.of("automated reply"), writes.comments);
+		assertEquals(List.of(1L, 2L, 3L, 4L), writes.sequences);
+		assertEquals("JDS", writes.getProjectKey());
+	}
+
+}
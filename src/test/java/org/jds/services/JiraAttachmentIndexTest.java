@@ -0,0 +1,159 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraAttachmentIndexTest {
+
+	@TempDir
+	Path directory;
+
+	// Attachments of JDS-1 in Jira and the file names of each upload
+	private Map<Long, Attachment> attachments;
+	private List<List<String>> uploads;
+	private AtomicLong attachmentIds;
+	private CompletableFuture<Void> jiraAnswers;
+	private JiraAttachmentIndex index;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		attachments = new ConcurrentHashMap<>();
+		uploads = new CopyOnWriteArrayList<>();
+		attachmentIds = new AtomicLong(10000);
+		jiraAnswers = CompletableFuture.completedFuture(null);
+		JiraProperties properties = new JiraProperties();
+		properties.getAttachmentIndex().setEnabled(true);
+		properties.getAttachmentIndex().setFile(directory.resolve("attachment-index").toString());
+		index = new JiraAttachmentIndex(null, null, properties, new JiraMetrics(new SimpleMeterRegistry())) {
+			@Override
+			CompletableFuture<Iterable<Attachment>> attachments(String issueKey) {
+				assertEquals("JDS-1", issueKey);
+				return CompletableFuture.completedFuture(new ArrayList<>(attachments.values()));
+			}
+
+			// Like Jira, creates an attachment per file; the digests are what the upload body computes
+			@Override
+			CompletableFuture<JiraAttachmentTransfer.HashedUpload> send(String issueKey, List<Path> files,
+					List<String> filenames) {
+				uploads.add(filenames);
+				return jiraAnswers.thenApply(ignored -> {
+					List<Long> ids = new ArrayList<>();
+					List<String> digests = new ArrayList<>();
+					for (int file = 0; file < files.size(); file++) {
+						long id = attachmentIds.incrementAndGet();
+						attachments.put(id, JiraTestData.attachment(id, filenames.get(file),
+								(int) size(files.get(file))));
+						ids.add(id);
+						digests.add(sha256(files.get(file)));
+					}
+					return new JiraAttachmentTransfer.HashedUpload(ids, digests);
+				});
+			}
+		};
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		index.destroy();
+	}
+
+	private Path file(String name, String content) throws IOException {
+		return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static long size(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String sha256(Path file) {
+		try {
+			return JiraAttachmentIndex.sha256(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private int upload(String issueKey, Path... files) {
+		List<String> names = new ArrayList<>();
+		for (Path file : files) {
+			names.add(file.getFileName().toString());
+		}
+		return index.upload(issueKey, List.of(files), names).join();
+	}
+
+	@Test
+	void testSkipsContentTheIssueHasUnderAnotherName() throws IOException {
+		assertEquals(1, upload("JDS-1", file("build-1.log", "build output")));
+		assertEquals(0, upload("jds-1", file("build-2.log", "build output")));
+
+		assertEquals(List.of(List.of("build-1.log")), uploads);
+		assertTrue(index.contains("JDS-1", directory.resolve("build-2.log")).join());
+	}
+
+	@Test
+	void testUploadsEachContentOfAnUploadOnce() throws IOException {
+		assertEquals(2, upload("JDS-1", file("a.log", "same"), file("b.log", "same"), file("c.log", "other!")));
+
+		assertEquals(List.of(List.of("a.log", "c.log")), uploads);
+	}
+
+	@Test
+	void testUploadsAgainWhatWasRemovedInJira() throws IOException {
+		upload("JDS-1", file("build-1.log", "build output"));
+		attachments.clear();
+
+		assertFalse(index.contains("JDS-1", directory.resolve("build-1.log")).join());
+		assertEquals(1, upload("JDS-1", file("build-2.log", "build output")));
+		assertEquals(2, uploads.size());
+	}
+
+	@Test
+	void testConcurrentUploadsOfTheSameContentUploadItOnce() throws IOException {
+		jiraAnswers = new CompletableFuture<>();
+		Path first = file("build-1.log", "build output");
+		Path second = file("build-2.log", "build output");
+
+		CompletableFuture<Integer> firstUpload = index.upload("JDS-1", List.of(first), List.of("build-1.log"));
+		CompletableFuture<Integer> secondUpload = index.upload("jds-1", List.of(second), List.of("build-2.log"));
+		jiraAnswers.complete(null);
+
+		assertEquals(1, firstUpload.join());
+		assertEquals(0, secondUpload.orTimeout(10, TimeUnit.SECONDS).join());
+		assertEquals(1, uploads.size());
+	}
+
+}
@@ -0,0 +1,40 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraAttachmentTransferTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testDownloadsStayInTheTargetDirectory() {
+		Path base = directory.toAbsolutePath().normalize();
+		assertEquals(base.resolve("report.pdf"), JiraAttachmentTransfer.fileIn(directory, "report.pdf"));
+		assertEquals(base.resolve("passwd"), JiraAttachmentTransfer.fileIn(directory, "../../etc/passwd"));
+		assertEquals(base.resolve("evil.sh"), JiraAttachmentTransfer.fileIn(directory, "/tmp/evil.sh"));
+		assertThrows(IllegalArgumentException.class, () -> JiraAttachmentTransfer.fileIn(directory, ".."));
+		assertThrows(IllegalArgumentException.class, () -> JiraAttachmentTransfer.fileIn(directory, "."));
+		assertThrows(IllegalArgumentException.class, () -> JiraAttachmentTransfer.fileIn(directory, ""));
+		assertThrows(IllegalArgumentException.class, () -> JiraAttachmentTransfer.fileIn(directory, "a\0b"));
+	}
+
+	@Test
+	void testMultipartFilenamesCannotBreakTheHeader() {
+		assertEquals("plain.txt", JiraAttachmentTransfer.quoted("plain.txt"));
+		assertEquals("a%22b.txt", JiraAttachmentTransfer.quoted("a\"b.txt"));
+		assertEquals("a%0D%0AX-Injected: 1", JiraAttachmentTransfer.quoted("a\r\nX-Injected: 1"));
+	}
+
+}
@@ -0,0 +1,161 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.BasicIssue;
+import com.atlassian.jira.rest.client.api.domain.BulkOperationErrorResult;
+import com.atlassian.jira.rest.client.api.domain.BulkOperationResult;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.atlassian.jira.rest.client.api.domain.input.IssueInput;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraBulkIssueCreatorTest {
+
+	private JiraProperties properties;
+	private JiraMetadataCache metadataCache;
+	private JiraExistenceChecks existenceChecks;
+	private Set<String> invalidated;
+	private List<Integer> batches;
+	private AtomicInteger inFlight;
+	private AtomicInteger peakInFlight;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JiraProperties();
+		batches = Collections.synchronizedList(new ArrayList<>());
+		inFlight = new AtomicInteger();
+		peakInFlight = new AtomicInteger();
+		// JDS exists, GONE doesn't and DOWN can't be read right now; same for the users
+		metadataCache = new JiraMetadataCache(null, null, properties) {
+			@Override
+			public CompletableFuture<Project> getProject(String projectKey) {
+				if ("GONE".equals(projectKey)) {
+					return CompletableFuture.failedFuture(new JiraHttpException("Get project", 404));
+				}
+				if ("DOWN".equals(projectKey)) {
+					return CompletableFuture.failedFuture(new JiraHttpException("Get project", 503));
+				}
+				return CompletableFuture.completedFuture(JiraTestData.project(projectKey));
+			}
+
+			@Override
+			public CompletableFuture<User> getUser(String userName) {
+				if ("ghost".equals(userName)) {
+					return CompletableFuture.failedFuture(new JiraHttpException("Get user", 404));
+				}
+				if ("flaky".equals(userName)) {
+					return CompletableFuture.failedFuture(new JiraHttpException("Get user", 500));
+				}
+				return CompletableFuture.completedFuture(JiraTestData.user(userName));
+			}
+		};
+		invalidated = ConcurrentHashMap.newKeySet();
+		existenceChecks = new JiraExistenceChecks(null, metadataCache, properties) {
+			@Override
+			public void invalidate(String issueKey) {
+				invalidated.add(issueKey);
+			}
+		};
+	}
+
+	// Creates every input of a batch as JDS-<summary>, answering asynchronously
+	private JiraBulkIssueCreator creator() {
+		return new JiraBulkIssueCreator(null, metadataCache, existenceChecks, properties) {
+			@Override
+			CompletableFuture<BulkOperationResult<BasicIssue>> create(List<IssueInput> inputs) {
+				batches.add(inputs.size());
+				peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				return CompletableFuture.supplyAsync(() -> {
+					List<BasicIssue> issues = new ArrayList<>();
+					for (IssueInput input : inputs) {
+						String summary = String.valueOf(input.getField("summary").getValue());
+						issues.add(new BasicIssue(URI.create(JiraTestData.SERVER + "rest/api/2/issue/" + summary),
+								"JDS-" + summary, Long.parseLong(summary)));
+					}
+					inFlight.decrementAndGet();
+					return new BulkOperationResult<>(issues, Collections.<BulkOperationErrorResult>emptyList());
+				});
+			}
+		};
+	}
+
+	private static IssueRequest request(String projectKey, int summary, String assignee, String issueType) {
+		return IssueRequest.builder()
+				.projectKey(projectKey)
+				.summary(String.valueOf(summary))
+				.assignee(assignee)
+				.issueType(issueType)
+				.build();
+	}
+
+	@Test
+	void testMissingAndUnreadableLookupsAreReportedApart() {
+		List<IssueRequest> requests = List.of(
+				request("JDS", 1, "jdoe", "Task"),
+				request("GONE", 2, null, "Task"),
+				request("DOWN", 3, null, "Task"),
+				request("JDS", 4, "ghost", "Task"),
+				request("JDS", 5, "flaky", "Task"),
+				request("JDS", 6, null, "Epic"));
+
+		List<IssueCreationResult> results = creator().createIssues(requests).join();
+
+		assertEquals(6, results.size());
+		assertTrue(results.get(0).isSuccess());
+		assertEquals("JDS-1", results.get(0).getIssue().getKey());
+		assertEquals("Project GONE doesn't exist", results.get(1).getError());
+		assertTrue(results.get(2).getError().startsWith("Failed to look up project DOWN"), results.get(2).getError());
+		assertEquals("User ghost doesn't exist", results.get(3).getError());
+		assertTrue(results.get(4).getError().startsWith("Failed to look up user flaky"), results.get(4).getError());
+		assertEquals("Issue type Epic doesn't exist in project JDS", results.get(5).getError());
+		// Only the request that passed every lookup was sent
+		assertEquals(List.of(1), batches);
+	}
+
+	@Test
+	void testSplitsIntoBatchesAndKeepsTheOrder() {
+		properties.getBulk().setBatchSize(3);
+		properties.getBulk().setParallelism(2);
+		List<IssueRequest> requests = new ArrayList<>();
+		for (int summary = 1; summary <= 8; summary++) {
+			requests.add(request("JDS", summary, null, summary % 2 == 0 ? "Bug" : "Task"));
+		}
+
+		List<IssueCreationResult> results = creator().createIssues(requests).join();
+
+		assertEquals(8, results.size());
+		for (int index = 0; index < results.size(); index++) {
+			assertEquals(index, results.get(index).getIndex());
+			assertEquals("JDS-" + (index + 1), results.get(index).getIssue().getKey());
+		}
+		List<Integer> sizes = new ArrayList<>(batches);
+		Collections.sort(sizes);
+		assertEquals(List.of(2, 3, 3), sizes);
+		assertTrue(peakInFlight.get() <= 2, "Batches in flight: " + peakInFlight.get());
+		assertFalse(results.stream().anyMatch(result -> result.getError() != null));
+		// Keys found missing before are forgotten once created
+		assertEquals(8, invalidated.size());
+		assertTrue(invalidated.contains("JDS-8"));
+	}
+
+}
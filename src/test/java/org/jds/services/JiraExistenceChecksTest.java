@@ -0,0 +1,119 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.RestClientException;
+import com.atlassian.jira.rest.client.api.domain.util.ErrorCollection;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraExistenceChecksTest {
+
+	private JiraProperties properties;
+	private List<List<String>> searches;
+	private Set<String> existing;
+	private JiraExistenceChecks checks;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JiraProperties();
+		searches = Collections.synchronizedList(new ArrayList<>());
+		existing = Set.of("JDS-1", "JDS-3");
+		// Like Jira, a search naming unknown keys fails with a 400 listing each of them
+		checks = new JiraExistenceChecks(null, null, properties) {
+			@Override
+			CompletableFuture<?> search(List<String> issueKeys) {
+				searches.add(issueKeys);
+				List<String> messages = new ArrayList<>();
+				for (String issueKey : issueKeys) {
+					if (!existing.contains(issueKey)) {
+						messages.add("An issue with key '" + issueKey + "' does not exist for field 'key'.");
+					}
+				}
+				if (messages.isEmpty()) {
+					return CompletableFuture.completedFuture(null);
+				}
+				return CompletableFuture.failedFuture(badRequest(messages, Map.of()));
+			}
+		};
+	}
+
+	private static RestClientException badRequest(List<String> messages, Map<String, String> errors) {
+		return new RestClientException(List.of(new ErrorCollection(400, messages, errors)), 400);
+	}
+
+	@Test
+	void testReportedKeysFromMessagesAndFieldErrors() {
+		RestClientException failure = badRequest(
+				List.of("An issue with key 'JDS-99' does not exist for field 'key'.",
+						"The issue key 'jds-100' for field 'key' is invalid."),
+				Map.of("jql", "Field 'key' is invalid: key 'ABC-1'"));
+
+		assertEquals(Set.of("JDS-99", "JDS-100", "ABC-1"), JiraExistenceChecks.reportedKeys(failure));
+		assertEquals(Set.of("JDS-99", "JDS-100", "ABC-1"),
+				JiraExistenceChecks.reportedKeys(new CompletionException(failure)));
+		assertTrue(JiraExistenceChecks.reportedKeys(new JiraHttpException("Search", 400)).isEmpty());
+	}
+
+	@Test
+	void testReportedKeysFromTheErrorBodyOfTheJdkTransport() {
+		byte[] body = ("{\"errorMessages\": [\"An issue with key 'JDS-99' does not exist for field 'key'.\"],"
+				+ " \"errors\": {\"jql\": \"Field 'key' is invalid: key 'ABC-1'\"}}").getBytes(StandardCharsets.UTF_8);
+		JiraHttpException failure = new JiraHttpException("Search", 400, null,
+				JiraAttachmentTransfer.errorMessages(body));
+
+		assertEquals(Set.of("JDS-99", "ABC-1"), JiraExistenceChecks.reportedKeys(new CompletionException(failure)));
+		assertTrue(JiraAttachmentTransfer.errorMessages("<html>Bad gateway</html>".getBytes(StandardCharsets.UTF_8))
+				.isEmpty());
+	}
+
+	@Test
+	void testRetriesWithoutTheReportedKeys() {
+		Map<String, Boolean> exists = checks.issuesExist(List.of("JDS-1", "JDS-2", "jds-3", "JDS-4")).join();
+
+		assertEquals(List.of("JDS-1", "JDS-2", "jds-3", "JDS-4"), new ArrayList<>(exists.keySet()));
+		assertEquals(List.of(true, false, true, false), new ArrayList<>(exists.values()));
+		assertEquals(List.of(List.of("JDS-1", "JDS-2", "JDS-3", "JDS-4"), List.of("JDS-1", "JDS-3")), searches);
+	}
+
+	@Test
+	void testMissingIssuesAreRememberedUntilInvalidated() {
+		assertEquals(false, checks.issueExists("JDS-2").join());
+		assertEquals(false, checks.issueExists("jds-2").join());
+		assertEquals(1, searches.size());
+
+		existing = Set.of("JDS-2");
+		checks.invalidate("jds-2");
+
+		assertEquals(true, checks.issueExists("JDS-2").join());
+		assertEquals(2, searches.size());
+	}
+
+	@Test
+	void testSplitsIntoBatches() {
+		properties.getExistence().setBatchSize(2);
+
+		Map<String, Boolean> exists = checks.issuesExist(List.of("JDS-1", "JDS-3", "JDS-5")).join();
+
+		assertEquals(List.of(true, true, false), new ArrayList<>(exists.values()));
+		assertEquals(List.of(List.of("JDS-1", "JDS-3"), List.of("JDS-5")), searches);
+	}
+
+}
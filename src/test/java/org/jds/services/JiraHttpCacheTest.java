@@ -0,0 +1,41 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpHeaders;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraHttpCacheTest {
+
+	@Test
+	void testDirectivesWithoutArguments() {
+		Set<String> directives = JiraHttpCache
+				.directives(headers("No-Cache, max-age=0", "must-revalidate,private=\"Set-Cookie\""));
+
+		assertEquals(Set.of("no-cache", "max-age", "must-revalidate", "private"), directives);
+	}
+
+	@Test
+	void testNoStoreAndPrivateAreNotStorable() {
+		assertFalse(JiraHttpCache.isStorable(JiraHttpCache.directives(headers("no-store"))));
+		assertFalse(JiraHttpCache.isStorable(JiraHttpCache.directives(headers("private, max-age=60"))));
+		assertTrue(JiraHttpCache.isStorable(JiraHttpCache.directives(headers("no-cache"))));
+		assertTrue(JiraHttpCache.isStorable(JiraHttpCache.directives(headers())));
+	}
+
+	private static HttpHeaders headers(String... cacheControl) {
+		return HttpHeaders.of(Map.of("Cache-Control", List.of(cacheControl)), (name, value) -> true);
+	}
+
+}
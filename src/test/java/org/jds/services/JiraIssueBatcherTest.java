@@ -0,0 +1,186 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.SearchResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraIssueBatcherTest {
+
+	private static final Pattern QUOTED = Pattern.compile("\"([^\"]+)\"");
+
+	// Issues Jira has, the others answer 404
+	private final Set<String> existing = Set.of("JDS-1", "JDS-2", "JDS-3", "JDS-4", "JDS-5");
+	private final List<List<String>> searches = Collections.synchronizedList(new ArrayList<>());
+	private final List<String> expansions = Collections.synchronizedList(new ArrayList<>());
+	private final List<String> reads = Collections.synchronizedList(new ArrayList<>());
+	private JiraProperties properties;
+	private JiraIssueBatcher batcher;
+	// Like Jira, reject searches naming unknown keys with a 400, listing them when named is set
+	private boolean rejectUnknown;
+	private boolean named;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JiraProperties();
+		properties.getIssueBatch().setEnabled(true);
+		properties.getIssueBatch().setWindow(Duration.ofMillis(50));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (batcher != null) {
+			batcher.destroy();
+		}
+	}
+
+	private JiraIssueBatcher batcher() {
+		JiraRestReader restReader = new JiraRestReader(null, null, null, null, null) {
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public CompletableFuture<SearchResult> search(String jql, Set<String> fields, String expand,
+					int startAt, int maxResults, JiraThrottle.Priority priority) {
+				List<String> keys = new ArrayList<>();
+				Matcher quoted = QUOTED.matcher(jql);
+				while (quoted.find()) {
+					keys.add(quoted.group(1));
+				}
+				searches.add(keys);
+				expansions.add(expand);
+				List<String> messages = new ArrayList<>();
+				keys.stream().filter(key -> !existing.contains(key)).forEach(key -> messages.add(
+						"An issue with key '" + key + "' does not exist for field 'key'."));
+				if (rejectUnknown && !messages.isEmpty()) {
+					return CompletableFuture.failedFuture(new JiraHttpException("Search", 400, null,
+							named ? messages : List.of()));
+				}
+				List<Issue> issues = new ArrayList<>();
+				keys.stream().filter(existing::contains).forEach(key -> issues.add(JiraTestData.issue(key)));
+				return CompletableFuture.supplyAsync(() -> new SearchResult(startAt, maxResults, issues.size(), issues));
+			}
+
+			@Override
+			public CompletableFuture<Issue> getIssue(String issueKey) {
+				reads.add(issueKey);
+				return existing.contains(issueKey) ? CompletableFuture.completedFuture(JiraTestData.issue(issueKey))
+						: CompletableFuture.failedFuture(new JiraHttpException("Get " + issueKey, 404));
+			}
+		};
+		batcher = new JiraIssueBatcher(null, restReader, properties, new JiraMetrics(new SimpleMeterRegistry()));
+		return batcher;
+	}
+
+	@Test
+	void testReadsWithinTheWindowShareOneSearch() {
+		JiraIssueBatcher batcher = batcher();
+		CompletableFuture<Issue> first = batcher.get("JDS-1");
+		CompletableFuture<Issue> again = batcher.get("JDS-1");
+		CompletableFuture<Issue> second = batcher.get("JDS-2");
+
+		assertEquals("JDS-1", first.join().getKey());
+		assertEquals("JDS-1", again.join().getKey());
+		assertEquals("JDS-2", second.join().getKey());
+		assertEquals(List.of(List.of("JDS-1", "JDS-2")), searches);
+		assertEquals(List.of(JiraIssueBatcher.EXPAND), expansions);
+		assertTrue(reads.isEmpty());
+	}
+
+	@Test
+	void testFullBatchesAreSentRightAway() {
+		properties.getIssueBatch().setMaxBatchSize(2);
+		properties.getIssueBatch().setWindow(Duration.ofSeconds(30));
+		JiraIssueBatcher batcher = batcher();
+		List<CompletableFuture<Issue>> issues = new ArrayList<>();
+		for (int number = 1; number <= 4; number++) {
+			issues.add(batcher.get("JDS-" + number));
+		}
+
+		for (int number = 1; number <= 4; number++) {
+			assertEquals("JDS-" + number, issues.get(number - 1).join().getKey());
+		}
+		assertEquals(List.of(List.of("JDS-1", "JDS-2"), List.of("JDS-3", "JDS-4")), searches);
+		assertTrue(reads.isEmpty());
+	}
+
+	@Test
+	void testKeysTheSearchMissesAreReadOneByOne() {
+		JiraIssueBatcher batcher = batcher();
+		CompletableFuture<Issue> found = batcher.get("JDS-3");
+		CompletableFuture<Issue> missing = batcher.get("JDS-99");
+
+		assertEquals("JDS-3", found.join().getKey());
+		CompletionException failure = assertThrows(CompletionException.class, missing::join);
+		assertTrue(JiraErrors.isNotFound(failure));
+		assertEquals(List.of(List.of("JDS-3", "JDS-99")), searches);
+		assertEquals(List.of("JDS-99"), reads);
+	}
+
+	@Test
+	void testOnlyTheKeysARejectedSearchNamesAreReadOneByOne() {
+		rejectUnknown = true;
+		named = true;
+		JiraIssueBatcher batcher = batcher();
+		List<CompletableFuture<Issue>> issues = new ArrayList<>();
+		for (String issueKey : List.of("JDS-1", "JDS-98", "JDS-2", "JDS-99", "JDS-3")) {
+			issues.add(batcher.get(issueKey));
+		}
+
+		assertEquals("JDS-1", issues.get(0).join().getKey());
+		assertEquals("JDS-3", issues.get(4).join().getKey());
+		assertTrue(JiraErrors.isNotFound(assertThrows(CompletionException.class, issues.get(1)::join)));
+		assertTrue(JiraErrors.isNotFound(assertThrows(CompletionException.class, issues.get(3)::join)));
+		assertEquals(List.of(List.of("JDS-1", "JDS-98", "JDS-2", "JDS-99", "JDS-3"),
+				List.of("JDS-1", "JDS-2", "JDS-3")), searches);
+		assertEquals(Set.of("JDS-98", "JDS-99"), Set.copyOf(reads));
+	}
+
+	@Test
+	void testARejectedSearchNamingNoKeyIsReadOneByOne() {
+		rejectUnknown = true;
+		JiraIssueBatcher batcher = batcher();
+		CompletableFuture<Issue> found = batcher.get("JDS-1");
+		CompletableFuture<Issue> missing = batcher.get("JDS-99");
+
+		assertEquals("JDS-1", found.join().getKey());
+		assertTrue(JiraErrors.isNotFound(assertThrows(CompletionException.class, missing::join)));
+		assertEquals(1, searches.size());
+		assertEquals(Set.of("JDS-1", "JDS-99"), Set.copyOf(reads));
+	}
+
+	@Test
+	void testALoneReadIsNotBatched() {
+		JiraIssueBatcher batcher = batcher();
+		assertEquals("JDS-5", batcher.get("JDS-5").join().getKey());
+		assertTrue(searches.isEmpty());
+		assertEquals(List.of("JDS-5"), reads);
+	}
+
+}
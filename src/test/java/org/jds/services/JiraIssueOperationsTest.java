@@ -0,0 +1,133 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraIssueOperationsTest {
+
+	private JiraProperties properties;
+	private AtomicInteger inFlight;
+	private AtomicInteger peakInFlight;
+	private boolean answerRightAway;
+	private Issue storedIssue;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JiraProperties();
+		inFlight = new AtomicInteger();
+		peakInFlight = new AtomicInteger();
+		storedIssue = JiraTestData.issue("JDS-1");
+	}
+
+	// JDS-404 doesn't exist, JDS-500 fails and JDS-666 throws; the others answer after a random delay
+	private JiraIssueOperations operations() {
+		JiraIssueStore issueStore = new JiraIssueStore(null, null, properties,
+				new JiraMetrics(new SimpleMeterRegistry())) {
+			@Override
+			public CompletableFuture<Issue> get(String issueKey) {
+				if ("JDS-666".equals(issueKey)) {
+					throw new IllegalStateException("Client is closed");
+				}
+				if (answerRightAway) {
+					return CompletableFuture.completedFuture(storedIssue);
+				}
+				peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				return CompletableFuture.supplyAsync(() -> {
+					inFlight.decrementAndGet();
+					if ("JDS-404".equals(issueKey)) {
+						throw new JiraHttpException("Get issue", 404);
+					}
+					if ("JDS-500".equals(issueKey)) {
+						throw new JiraHttpException("Get issue", 500);
+					}
+					return JiraTestData.issue(issueKey);
+				}, CompletableFuture.delayedExecutor(ThreadLocalRandom.current().nextInt(1, 20),
+						TimeUnit.MILLISECONDS));
+			}
+		};
+		return new JiraIssueOperations(null, issueStore, null, null, null, properties);
+	}
+
+	@Test
+	void testResultsInTheOrderOfTheKeys() {
+		List<String> issueKeys = new ArrayList<>();
+		for (int number = 1; number <= 30; number++) {
+			issueKeys.add("JDS-" + number);
+		}
+
+		List<IssueOperationResult<Issue>> results = operations().getIssues(issueKeys).join();
+
+		assertEquals(30, results.size());
+		for (int index = 0; index < results.size(); index++) {
+			assertEquals(index, results.get(index).getIndex());
+			assertEquals(issueKeys.get(index), results.get(index).getIssueKey());
+			assertEquals(issueKeys.get(index), results.get(index).getValue().getKey());
+		}
+	}
+
+	@Test
+	void testFailingKeysDontFailTheOthers() {
+		List<IssueOperationResult<Issue>> results = operations()
+				.getIssues(List.of("JDS-1", "JDS-404", "JDS-500", "JDS-666", "JDS-2")).join();
+
+		assertTrue(results.get(0).isSuccess());
+		assertEquals("Issue JDS-404 doesn't exist", results.get(1).getError());
+		assertNull(results.get(1).getValue());
+		assertEquals("Get issue failed with status 500", results.get(2).getError());
+		assertEquals("Client is closed", results.get(3).getError());
+		assertEquals("JDS-2", results.get(4).getValue().getKey());
+	}
+
+	@Test
+	void testKeysInFlightAreBoundedByTheParallelism() {
+		properties.getBulk().setIssueParallelism(3);
+		List<String> issueKeys = new ArrayList<>();
+		for (int number = 1; number <= 40; number++) {
+			issueKeys.add("JDS-" + number);
+		}
+
+		List<IssueOperationResult<Issue>> results = operations().getIssues(issueKeys).join();
+
+		assertEquals(40, results.size());
+		assertTrue(peakInFlight.get() <= 3, "Keys in flight: " + peakInFlight.get());
+		assertEquals(0, inFlight.get());
+	}
+
+	@Test
+	void testKeysAnsweredRightAwayDontRecurse() {
+		answerRightAway = true;
+		properties.getBulk().setIssueParallelism(1);
+		List<String> issueKeys = new ArrayList<>();
+		for (int number = 1; number <= 5000; number++) {
+			issueKeys.add("JDS-" + number);
+		}
+
+		List<IssueOperationResult<Issue>> results = operations().getIssues(issueKeys).join();
+
+		assertEquals(5000, results.size());
+		assertTrue(results.stream().allMatch(IssueOperationResult::isSuccess));
+		assertEquals("JDS-5000", results.get(4999).getIssueKey());
+	}
+
+}
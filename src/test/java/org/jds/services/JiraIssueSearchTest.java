@@ -0,0 +1,35 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraIssueSearchTest {
+
+	@Test
+	void testKeyJql() {
+		assertEquals("key = \"JDS-1\"", JiraIssueSearch.keyJql("JDS-1"));
+		assertEquals("key in (\"JDS-1\", \"JDS-2\")", JiraIssueSearch.keysJql(List.of("JDS-1", "JDS-2")));
+	}
+
+	@Test
+	void testQuotesAndBackslashesAreEscaped() {
+		assertEquals("\"say \\\"hi\\\"\"", JiraIssueSearch.quote("say \"hi\""));
+		assertEquals("\"C:\\\\temp\\\\\"", JiraIssueSearch.quote("C:\\temp\\"));
+	}
+
+	@Test
+	void testTrailingBackslashCantCloseTheQuote() {
+		// Unescaped, JDS-1\" would end the literal and let the rest through as JQL
+		assertEquals("key in (\"JDS-1\\\\\\\" OR key != \\\"\", \"JDS-2\")",
+				JiraIssueSearch.keysJql(List.of("JDS-1\\\" OR key != \"", "JDS-2")));
+	}
+
+}
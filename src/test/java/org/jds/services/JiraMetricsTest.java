@@ -0,0 +1,77 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private JiraMetrics metrics;
+
+	@BeforeEach
+	public void setup() {
+		registry = new SimpleMeterRegistry();
+		metrics = new JiraMetrics(registry);
+	}
+
+	@Test
+	void testTimerTaggedByOutcome() {
+		Timer.Sample sample = metrics.start(JiraOperation.ISSUE_GET);
+		assertEquals(1, registry.get(JiraMetrics.ACTIVE_REQUESTS).tag("operation", "issue.get").gauge().value());
+		metrics.stop(sample, JiraOperation.ISSUE_GET, "JDS", null);
+		assertEquals(0, registry.get(JiraMetrics.ACTIVE_REQUESTS).tag("operation", "issue.get").gauge().value());
+
+		metrics.stop(metrics.start(JiraOperation.ISSUE_GET), JiraOperation.ISSUE_GET, "JDS",
+				new CompletionException(new JiraHttpException("Get", 503)));
+
+		assertEquals(1, registry.get(JiraMetrics.REQUESTS).tags("operation", "issue.get", "project", "JDS",
+				"outcome", "SUCCESS").timer().count());
+		assertEquals(1, registry.get(JiraMetrics.REQUESTS).tags("operation", "issue.get", "project", "JDS",
+				"outcome", "SERVER_ERROR").timer().count());
+		assertEquals(1, registry.get(JiraMetrics.ERRORS).tag("exception", "JiraHttpException").counter().count());
+	}
+
+	@Test
+	void testProjectTagsAreCapped() {
+		for (int project = 0; project < JiraMetrics.MAX_PROJECTS; project++) {
+			assertEquals("P" + project, metrics.projectTag("P" + project));
+		}
+
+		assertEquals(JiraMetrics.OTHER, metrics.projectTag("LATE"));
+		assertEquals("P0", metrics.projectTag("P0"));
+		assertEquals("none", metrics.projectTag(null));
+		for (int project = 0; project < 10; project++) {
+			metrics.stop(metrics.start(JiraOperation.ISSUE_GET), JiraOperation.ISSUE_GET, "LATE" + project, null);
+		}
+		assertEquals(10, registry.get(JiraMetrics.REQUESTS).tag("project", JiraMetrics.OTHER).timer().count());
+	}
+
+	@Test
+	void testKeysThatArentProjectKeysAreNotTags() {
+		assertEquals(JiraMetrics.OTHER, metrics.projectTag("jds"));
+		assertEquals(JiraMetrics.OTHER, metrics.projectTag("JDS\" OR 1=1"));
+		assertEquals("JDS", metrics.projectTag("JDS"));
+	}
+
+	@Test
+	void testProjectOf() {
+		assertEquals("JDS", JiraMetrics.projectOf("JDS-12"));
+		assertEquals("MY_PROJ2", JiraMetrics.projectOf("MY_PROJ2-3"));
+		assertNull(JiraMetrics.projectOf("JDS"));
+		assertNull(JiraMetrics.projectOf(null));
+	}
+
+}
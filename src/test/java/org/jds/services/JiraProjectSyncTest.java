@@ -0,0 +1,229 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jds.config.JiraProperties;
+import org.jds.entities.IssueRecord;
+import org.jds.entities.SyncWatermark;
+import org.jds.repositories.IssueRecordRepository;
+import org.jds.repositories.SyncWatermarkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraProjectSyncTest {
+
+	private JiraProperties properties;
+	// What reached the database, in order
+	private List<String> events;
+	private Map<String, IssueRecord> records;
+	private Map<String, SyncWatermark> watermarks;
+	private List<String> searches;
+	private List<Issue> issues;
+	private int failAfter;
+	private JiraProjectSync sync;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JiraProperties();
+		properties.getSync().setBatchSize(2);
+		properties.getSync().setPageSize(3);
+		properties.getSync().setTimeZone("UTC");
+		events = Collections.synchronizedList(new ArrayList<>());
+		records = new HashMap<>();
+		watermarks = new HashMap<>();
+		searches = new ArrayList<>();
+		issues = new ArrayList<>();
+		for (int number = 1; number <= 5; number++) {
+			issues.add(JiraTestData.issue("JDS-" + number));
+		}
+		failAfter = Integer.MAX_VALUE;
+		// Pages through the issues, failing once failAfter of them were read
+		JiraIssueSearch issueSearch = new JiraIssueSearch(null, properties) {
+			@Override
+			public Stream<Issue> streamByKey(String jql, Set<String> fields, int pageSize) {
+				searches.add(jql + " - page size " + pageSize);
+				Iterator<Issue> found = issues.iterator();
+				return Stream.iterate(0, read -> read + 1).limit(issues.size()).map(read -> {
+					if (read == failAfter) {
+						throw new IllegalStateException("Search page failed");
+					}
+					return found.next();
+				});
+			}
+		};
+		PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+				events.add("commit");
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+				events.add("rollback");
+			}
+		};
+		sync = new JiraProjectSync(issueSearch,
+				repository(IssueRecordRepository.class, records, IssueRecord::getIssueKey, "issues"),
+				repository(SyncWatermarkRepository.class, watermarks, SyncWatermark::getProjectKey, "watermark"),
+				transactionManager, properties, new JiraMetrics(new SimpleMeterRegistry()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		sync.destroy();
+	}
+
+	// In-memory repository with just the calls the sync makes, logging the writes
+	@SuppressWarnings("unchecked")
+	private <R, E> R repository(Class<R> type, Map<String, E> rows, Function<E, String> id, String name) {
+		return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "findById":
+					return Optional.ofNullable(rows.get(args[0]));
+				case "findAllById":
+					List<E> found = new ArrayList<>();
+					for (Object key : (Iterable<?>) args[0]) {
+						if (rows.containsKey(key)) {
+							found.add(rows.get(key));
+						}
+					}
+					return found;
+				case "save":
+					rows.put(id.apply((E) args[0]), (E) args[0]);
+					events.add(name);
+					return args[0];
+				case "saveAll":
+					List<E> saved = new ArrayList<>();
+					((Iterable<E>) args[0]).forEach(saved::add);
+					saved.forEach(entity -> rows.put(id.apply(entity), entity));
+					events.add(name + " " + saved.size());
+					return saved;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	@Test
+	void testInitialSyncPagesThroughTheWholeProject() {
+		assertEquals("project = \"JDS\"", JiraProjectSync.projectJql("JDS"));
+	}
+
+	@Test
+	void testIncrementalSyncUsesTheWatermarkInTheJiraTimeZone() {
+		Instant watermark = Instant.parse("2026-10-18T10:15:42Z");
+
+		assertEquals("project = \"JDS\" AND updated >= \"2026/10/18 12:15\"",
+				JiraProjectSync.incrementalJql("JDS", watermark, ZoneId.of("Europe/Madrid")));
+	}
+
+	@Test
+	void testProjectKeyCantCloseItsQuotes() {
+		assertEquals("project = \"JDS\\\\\\\" OR project = \\\"X\"",
+				JiraProjectSync.projectJql("JDS\\\" OR project = \"X"));
+	}
+
+	@Test
+	void testUpdatesExistingRecordsAndInsertsTheOthers() {
+		IssueRecord existing = new IssueRecord("JDS-1");
+		existing.setSummary("Old summary");
+		records.put("JDS-1", existing);
+
+		ProjectSyncResult result = sync.sync("JDS");
+
+		assertTrue(result.isSuccess());
+		assertEquals(5, result.getIssues());
+		assertEquals(5, records.size());
+		assertSame(existing, records.get("JDS-1"));
+		assertEquals(issues.get(0).getSummary(), existing.getSummary());
+		assertNotEquals("Old summary", existing.getSummary());
+		assertEquals(issues.get(4).getId(), records.get("JDS-5").getIssueId());
+	}
+
+	@Test
+	void testWritesOneTransactionPerBatchThenTheWatermark() {
+		Instant started = Instant.now();
+
+		sync.sync("JDS");
+
+		assertEquals(List.of("project = \"JDS\" - page size 3"), searches);
+		assertEquals(List.of("issues 2", "commit", "issues 2", "commit", "issues 1", "commit", "watermark", "commit"),
+				events);
+		SyncWatermark watermark = watermarks.get("JDS");
+		assertEquals(5, watermark.getLastSyncedIssues());
+		// Issues updated while the run paged are fetched again by the next one
+		Duration overlap = properties.getSync().getOverlap();
+		assertFalse(watermark.getWatermark().isBefore(started.minus(overlap)));
+		assertFalse(watermark.getWatermark().isAfter(Instant.now().minus(overlap)));
+	}
+
+	@Test
+	void testNextRunOnlyAsksForIssuesUpdatedSinceTheWatermark() {
+		sync.sync("JDS");
+		Instant watermark = watermarks.get("JDS").getWatermark();
+
+		ProjectSyncResult result = sync.sync("JDS");
+
+		assertFalse(result.isInitial());
+		assertEquals("project = \"JDS\" AND updated >= \"" + JiraProjectSync.JQL_DATE.format(watermark.atZone(
+				ZoneId.of("UTC"))) + "\" - page size 3", searches.get(1));
+	}
+
+	@Test
+	void testWatermarkStaysWhenARunFailsAfterSomePagesCommitted() {
+		Instant yesterday = Instant.now().minus(Duration.ofDays(1));
+		SyncWatermark previous = new SyncWatermark("JDS");
+		previous.setWatermark(yesterday);
+		watermarks.put("JDS", previous);
+		failAfter = 3;
+
+		ProjectSyncResult result = sync.sync("JDS");
+
+		assertFalse(result.isSuccess());
+		assertEquals(2, result.getIssues());
+		// The committed batch stays, the run is repeated from the old watermark
+		assertEquals(List.of("issues 2", "commit"), events);
+		assertEquals(Set.of("JDS-1", "JDS-2"), records.keySet());
+		assertSame(previous, watermarks.get("JDS"));
+		assertEquals(yesterday, previous.getWatermark());
+	}
+
+}
@@ -0,0 +1,153 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraResilienceTest {
+
+	private JiraProperties properties;
+	private JiraResilience resilience;
+
+	@BeforeEach
+	public void setup() {
+		properties = new JiraProperties();
+		properties.getResilience().setReadTimeout(Duration.ofMillis(100));
+		properties.getResilience().setAttachmentBulkhead(1);
+		properties.getResilience().setCircuitWindow(4);
+		properties.getResilience().setCircuitMinimumCalls(4);
+		resilience = new JiraResilience(properties, new JiraMetrics(new SimpleMeterRegistry()));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		resilience.destroy();
+	}
+
+	@Test
+	void testStalledCallTimesOut() {
+		CompletableFuture<String> result = resilience.execute(JiraOperation.ISSUE_GET, CompletableFuture::new);
+
+		CompletionException e = assertThrows(CompletionException.class, result::join);
+		assertTrue(e.getCause() instanceof TimeoutException);
+	}
+
+	@Test
+	void testSlowUploadDoesNotBlockReads() {
+		CompletableFuture<String> upload = new CompletableFuture<>();
+		resilience.execute(JiraOperation.ATTACHMENT_UPLOAD, () -> upload);
+
+		CompletableFuture<String> second = resilience.execute(JiraOperation.ATTACHMENT_DOWNLOAD,
+				() -> CompletableFuture.completedFuture("file"));
+		CompletionException e = assertThrows(CompletionException.class, second::join);
+		assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+		assertEquals("JDS-1", resilience.execute(JiraOperation.ISSUE_GET,
+				() -> CompletableFuture.completedFuture("JDS-1")).join());
+		upload.complete(null);
+	}
+
+	@Test
+	void testCircuitOpensWhenJiraFails() {
+		AtomicInteger calls = new AtomicInteger();
+		for (int call = 0; call < 4; call++) {
+			resilience.execute(JiraOperation.ISSUE_GET, () -> {
+				calls.incrementAndGet();
+				return CompletableFuture.failedFuture(new JiraHttpException("Get", 500));
+			});
+		}
+		assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitState());
+
+		CompletableFuture<String> rejected = resilience.execute(JiraOperation.ISSUE_GET,
+				() -> CompletableFuture.completedFuture("JDS-1"));
+		CompletionException e = assertThrows(CompletionException.class, rejected::join);
+		assertTrue(e.getCause() instanceof RejectedExecutionException);
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	void testClientErrorsDoNotOpenTheCircuit() {
+		for (int call = 0; call < 4; call++) {
+			resilience.execute(JiraOperation.ISSUE_GET,
+					() -> CompletableFuture.failedFuture(new JiraHttpException("Get", 404)));
+		}
+		assertEquals(CircuitBreaker.State.CLOSED, resilience.getCircuitState());
+	}
+
+	@Test
+	void testClientErrorOfTrialCallClosesTheCircuit() throws InterruptedException {
+		properties.getResilience().setCircuitOpenFor(Duration.ofMillis(50));
+		properties.getResilience().setCircuitHalfOpenCalls(1);
+		resilience.destroy();
+		resilience = new JiraResilience(properties, new JiraMetrics(new SimpleMeterRegistry()));
+		for (int call = 0; call < 4; call++) {
+			resilience.execute(JiraOperation.ISSUE_GET,
+					() -> CompletableFuture.failedFuture(new JiraHttpException("Get", 500)));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitState());
+		Thread.sleep(100);
+
+		CompletableFuture<String> trial = resilience.execute(JiraOperation.ISSUE_GET,
+				() -> CompletableFuture.failedFuture(new JiraHttpException("Get", 404)));
+		CompletionException e = assertThrows(CompletionException.class, trial::join);
+		assertTrue(e.getCause() instanceof JiraHttpException);
+
+		assertEquals("JDS-1", resilience.execute(JiraOperation.ISSUE_GET,
+				() -> CompletableFuture.completedFuture("JDS-1")).join());
+		assertEquals(CircuitBreaker.State.CLOSED, resilience.getCircuitState());
+	}
+
+	@Test
+	void testCancelledTrialCallGivesItsSlotBack() {
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, TimeUnit.SECONDS.toNanos(1), 1);
+		for (int call = 0; call < 4; call++) {
+			breaker.onFailure(0);
+		}
+		long later = TimeUnit.SECONDS.toNanos(2);
+		assertTrue(breaker.tryAcquire(later));
+		assertFalse(breaker.tryAcquire(later));
+		breaker.onIgnored();
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire(later));
+	}
+
+	@Test
+	void testCircuitClosesAfterSuccessfulTrialCalls() {
+		CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, TimeUnit.SECONDS.toNanos(1), 2);
+		for (int call = 0; call < 4; call++) {
+			breaker.onFailure(0);
+		}
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquire(TimeUnit.MILLISECONDS.toNanos(500)));
+
+		long later = TimeUnit.SECONDS.toNanos(2);
+		assertTrue(breaker.tryAcquire(later));
+		assertTrue(breaker.tryAcquire(later));
+		assertFalse(breaker.tryAcquire(later));
+		breaker.onSuccess();
+		breaker.onSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+}
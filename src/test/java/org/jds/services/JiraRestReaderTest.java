@@ -0,0 +1,72 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraRestReaderTest {
+
+	@Test
+	void testFindsTruncatedChangelogs() throws JSONException {
+		JSONObject page = new JSONObject("{\"issues\": ["
+				+ "{\"key\": \"JDS-1\", \"changelog\": {\"startAt\": 0, \"maxResults\": 2, \"total\": 5,"
+				+ " \"histories\": [" + history(1) + ", " + history(2) + "]}},"
+				+ "{\"key\": \"JDS-2\", \"changelog\": {\"startAt\": 0, \"maxResults\": 1, \"total\": 1,"
+				+ " \"histories\": [" + history(3) + "]}},"
+				+ "{\"key\": \"JDS-3\"}]}");
+		Map<String, Integer> truncated = JiraRestReader.truncatedChangelogs(page);
+		assertEquals(Map.of("JDS-1", 5), truncated);
+	}
+
+	@Test
+	void testPagesTheWholeChangelog() {
+		List<String> paths = new ArrayList<>();
+		JiraRestReader reader = new JiraRestReader(null, null, null, null, null) {
+			@Override
+			public CompletableFuture<byte[]> get(JiraOperation operation, String projectKey, String path,
+					JiraThrottle.Priority priority) {
+				paths.add(path);
+				// Five histories, served two at a time whatever the page size asked for
+				int startAt = Integer.parseInt(path.replaceAll(".*startAt=(\\d+).*", "$1"));
+				StringBuilder values = new StringBuilder();
+				for (int id = startAt + 1; id <= Math.min(startAt + 2, 5); id++) {
+					values.append(values.length() > 0 ? ", " : "").append(history(id));
+				}
+				String body = "{\"startAt\": " + startAt + ", \"maxResults\": 2, \"total\": 5, \"isLast\": "
+						+ (startAt + 2 >= 5) + ", \"values\": [" + values + "]}";
+				return CompletableFuture.completedFuture(body.getBytes(StandardCharsets.UTF_8));
+			}
+		};
+		List<ChangelogGroup> changelog = reader.getChangelog("JDS-1", JiraThrottle.Priority.BATCH).join();
+		assertEquals(5, changelog.size());
+		assertEquals(3, paths.size());
+		assertTrue(paths.get(0).startsWith("rest/api/2/issue/JDS-1/changelog?startAt=0"));
+		assertTrue(paths.get(2).startsWith("rest/api/2/issue/JDS-1/changelog?startAt=4"));
+		assertEquals("Status " + 5, changelog.get(4).getItems().iterator().next().getToString());
+	}
+
+	private static String history(int id) {
+		return "{\"id\": \"" + id + "\", \"created\": \"2026-10-18T09:00:00.000+0000\","
+				+ " \"author\": {\"self\": \"http://localhost:8081/rest/api/2/user?username=jdoe\","
+				+ " \"name\": \"jdoe\", \"displayName\": \"John Doe\"},"
+				+ " \"items\": [{\"field\": \"status\", \"fieldtype\": \"jira\", \"from\": \"1\","
+				+ " \"fromString\": \"Open\", \"to\": \"3\", \"toString\": \"Status " + id + "\"}]}";
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.jds.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+
+import com.atlassian.jira.rest.client.api.domain.Attachment;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.Project;
+import com.atlassian.jira.rest.client.api.domain.User;
+import com.atlassian.jira.rest.client.internal.json.AttachmentJsonParser;
+import com.atlassian.jira.rest.client.internal.json.IssueJsonParser;
+import com.atlassian.jira.rest.client.internal.json.JsonObjectParser;
+import com.atlassian.jira.rest.client.internal.json.ProjectJsonParser;
+import com.atlassian.jira.rest.client.internal.json.UserJsonParser;
+
+/**
+ * Jira domain objects for tests, parsed from minimal REST representations with
+ * the Jira client's own parsers.
+ *
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class JiraTestData {
+
+	static final String SERVER = "http://localhost:8081/";
+	// A copy of the issue the benchmarks serve, with every system field and some custom fields
+	static final String ISSUE_JSON = "/fixtures/issue.json";
+
+	private JiraTestData() {
+	}
+
+	// A project with the Task and Bug issue types
+	static Project project(String key) {
+		return parse("{\"self\": \"" + SERVER + "rest/api/2/project/10000\", \"id\": \"10000\", \"key\": \"" + key
+				+ "\", \"name\": \"" + key + "\", \"description\": \"\", \"lead\": " + userJson("admin")
+				+ ", \"components\": [], \"versions\": [], \"issueTypes\": [" + issueTypeJson(10002, "Task") + ", "
+				+ issueTypeJson(10004, "Bug") + "]}", new ProjectJsonParser());
+	}
+
+	static String issueJson() {
+		try (InputStream in = JiraTestData.class.getResourceAsStream(ISSUE_JSON)) {
+			if (in == null) {
+				throw new IllegalStateException("No " + ISSUE_JSON + " on the test classpath");
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// The fixture issue under another key
+	static Issue issue(String key) {
+		try {
+			JSONObject json = new JSONObject(issueJson());
+			json.put("key", key);
+			json.put("id", String.valueOf(10000 + Math.abs(key.hashCode() % 10000)));
+			return new IssueJsonParser().parse(json);
+		} catch (JSONException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// An attachment of the given size, uploaded by admin
+	static Attachment attachment(long id, String filename, int size) {
+		return parse("{\"self\": \"" + SERVER + "rest/api/2/attachment/" + id + "\", \"id\": \"" + id
+				+ "\", \"filename\": \"" + filename + "\", \"author\": " + userJson("admin")
+				+ ", \"created\": \"2026-10-18T10:00:00.000+0000\", \"size\": " + size
+				+ ", \"mimeType\": \"application/octet-stream\", \"content\": \"" + SERVER + "secure/attachment/"
+				+ id + "/" + filename + "\"}", new AttachmentJsonParser());
+	}
+
+	static User user(String name) {
+		return parse(userJson(name), new UserJsonParser());
+	}
+
+	private static String userJson(String name) {
+		return "{\"self\": \"" + SERVER + "rest/api/2/user?username=" + name + "\", \"key\": \"" + name
+				+ "\", \"name\": \"" + name + "\", \"displayName\": \"" + name + "\", \"active\": true,"
+				+ " \"avatarUrls\": {\"48x48\": \"" + SERVER + "secure/useravatar?avatarId=10122\"}}";
+	}
+
+	private static String issueTypeJson(long id, String name) {
+		return "{\"self\": \"" + SERVER + "rest/api/2/issuetype/" + id + "\", \"id\": \"" + id
+				+ "\", \"description\": \"\", \"iconUrl\": \"" + SERVER + "images/icons/issuetypes/task.png\","
+				+ " \"name\": \"" + name + "\", \"subtask\": false}";
+	}
+
+	private static <T> T parse(String json, JsonObjectParser<T> parser) {
+		try {
+			return parser.parse(new JSONObject(json));
+		} catch (JSONException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
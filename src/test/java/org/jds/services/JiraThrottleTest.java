@@ -0,0 +1,118 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jds.config.JiraProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraThrottleTest {
+
+	private SimpleMeterRegistry registry;
+	private JiraProperties properties;
+	private JiraThrottle throttle;
+
+	@BeforeEach
+	public void setup() {
+		registry = new SimpleMeterRegistry();
+		properties = new JiraProperties();
+		properties.getThrottle().setRequestsPerSecond(0);
+		properties.getThrottle().setInitialConcurrency(4);
+		properties.getThrottle().setInitialBackoff(Duration.ofMillis(10));
+		throttle = new JiraThrottle(properties, new JiraMetrics(registry));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		throttle.destroy();
+	}
+
+	@Test
+	void testRetriesAfterTooManyRequests() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		long start = System.nanoTime();
+		CompletableFuture<String> result = throttle.execute(JiraOperation.ISSUE_CREATE,
+				JiraThrottle.Priority.INTERACTIVE, () -> attempts.incrementAndGet() == 1
+						? CompletableFuture.failedFuture(new JiraHttpException("Create", 429, Duration.ofMillis(200)))
+						: CompletableFuture.completedFuture("JDS-1"));
+
+		assertEquals("JDS-1", result.get(5, TimeUnit.SECONDS));
+		assertEquals(2, attempts.get());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+		assertEquals(2, throttle.getLimit());
+		assertEquals(1, registry.get(JiraMetrics.RETRIES).tag("reason", "429").counter().count());
+	}
+
+	@Test
+	void testDoesNotRetryNonIdempotentCallOnServiceUnavailable() {
+		AtomicInteger attempts = new AtomicInteger();
+		CompletableFuture<String> result = throttle.execute(JiraOperation.COMMENT_ADD,
+				JiraThrottle.Priority.INTERACTIVE, () -> {
+					attempts.incrementAndGet();
+					return CompletableFuture.failedFuture(new JiraHttpException("Comment", 503));
+				});
+
+		CompletionException e = assertThrows(CompletionException.class, result::join);
+		assertTrue(e.getCause() instanceof JiraHttpException);
+		assertEquals(1, attempts.get());
+	}
+
+	@Test
+	void testBatchCallsLeaveRoomForInteractiveCalls() {
+		List<CompletableFuture<String>> responses = new ArrayList<>();
+		for (int index = 0; index < 10; index++) {
+			throttle.execute(JiraOperation.ISSUE_SEARCH, JiraThrottle.Priority.BATCH, () -> {
+				CompletableFuture<String> response = new CompletableFuture<>();
+				responses.add(response);
+				return response;
+			});
+		}
+		// 80% of the limit of 4
+		assertEquals(3, throttle.getInFlight());
+		assertEquals(7, throttle.getQueued());
+
+		CompletableFuture<String> interactive = throttle.execute(JiraOperation.ISSUE_GET,
+				JiraThrottle.Priority.INTERACTIVE, () -> CompletableFuture.completedFuture("JDS-1"));
+		assertEquals("JDS-1", interactive.join());
+
+		responses.get(0).complete("page");
+		assertEquals(3, throttle.getInFlight());
+		assertEquals(6, throttle.getQueued());
+	}
+
+	@Test
+	void testConcurrencyLimitGrowsWhileLatencyIsHealthy() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 8, 2.0, 0.5);
+		for (int call = 0; call < 100; call++) {
+			limit.onSuccess(JiraOperation.ISSUE_GET, TimeUnit.MILLISECONDS.toNanos(20), limit.getLimit());
+		}
+		assertEquals(8, limit.getLimit());
+
+		limit.onThrottled();
+		assertEquals(4, limit.getLimit());
+
+		for (int call = 0; call < 10; call++) {
+			limit.onSuccess(JiraOperation.ISSUE_GET, TimeUnit.MILLISECONDS.toNanos(200), limit.getLimit());
+		}
+		assertTrue(limit.getLimit() < 4);
+	}
+
+}
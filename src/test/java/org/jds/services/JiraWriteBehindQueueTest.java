@@ -0,0 +1,75 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JiraWriteBehindQueueTest {
+
+	@Test
+	void testThrottledAndTimedOutWritesAreRetried() {
+		assertTrue(JiraWriteBehindQueue.isTransient(new JiraHttpException("Update", 429)));
+		assertTrue(JiraWriteBehindQueue.isTransient(new CompletionException(new JiraHttpException("Update", 408))));
+		assertTrue(JiraWriteBehindQueue.isTransient(new JiraHttpException("Update", 503)));
+		assertTrue(JiraWriteBehindQueue.isTransient(new CompletionException(new IOException("Reset"))));
+		assertFalse(JiraWriteBehindQueue.isTransient(new JiraHttpException("Update", 400)));
+		assertFalse(JiraWriteBehindQueue.isTransient(new JiraHttpException("Update", 404)));
+		assertFalse(JiraWriteBehindQueue.isTransient(new IllegalArgumentException("Unknown issue type")));
+	}
+
+	@Test
+	void testBackoffDoublesUpToTheCap() {
+		Duration window = Duration.ofSeconds(2);
+		Duration max = Duration.ofMinutes(1);
+		assertEquals(Duration.ofSeconds(2), JiraWriteBehindQueue.backoff(1, window, max, null));
+		assertEquals(Duration.ofSeconds(4), JiraWriteBehindQueue.backoff(2, window, max, null));
+		assertEquals(Duration.ofSeconds(32), JiraWriteBehindQueue.backoff(5, window, max, null));
+		assertEquals(max, JiraWriteBehindQueue.backoff(6, window, max, null));
+		assertEquals(max, JiraWriteBehindQueue.backoff(100, window, max, null));
+	}
+
+	@Test
+	void testBackoffHonoursRetryAfter() {
+		Duration window = Duration.ofSeconds(2);
+		Duration max = Duration.ofMinutes(1);
+		assertEquals(Duration.ofSeconds(30),
+				JiraWriteBehindQueue.backoff(1, window, max, Duration.ofSeconds(30)));
+		assertEquals(Duration.ofMinutes(2),
+				JiraWriteBehindQueue.backoff(3, window, max, Duration.ofMinutes(2)));
+		assertEquals(Duration.ofSeconds(8),
+				JiraWriteBehindQueue.backoff(3, window, max, Duration.ofSeconds(1)));
+	}
+
+	@Test
+	void testUnsentWritesBecomeCommandsAgain() {
+		IssueWrites writes = new IssueWrites("JDS-1");
+		writes.add(IssueCommand.builder().type(IssueCommand.Type.UPDATE).issueKey("JDS-1")
+				.summary("Updated").build(), null);
+		writes.add(IssueCommand.builder().type(IssueCommand.Type.COMMENT).issueKey("JDS-1")
+				.comment("First").build(), null);
+		writes.add(IssueCommand.builder().type(IssueCommand.Type.ASSIGN).issueKey("JDS-1")
+				.assignee("jdoe").build(), null);
+		List<IssueCommand> commands = writes.toCommands();
+		assertEquals(2, commands.size());
+		assertEquals(IssueCommand.Type.UPDATE, commands.get(0).getType());
+		assertEquals("Updated", commands.get(0).getSummary());
+		assertEquals("jdoe", commands.get(0).getAssignee());
+		assertEquals("First", commands.get(1).getComment());
+
+		writes.updated();
+		assertEquals(1, writes.toCommands().size());
+	}
+
+}
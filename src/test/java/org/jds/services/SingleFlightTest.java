@@ -0,0 +1,67 @@
+package org.jds.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author J. Daniel Sobrado
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SingleFlightTest {
+
+	private final SingleFlight<String, String> flights = new SingleFlight<>();
+
+	@Test
+	void testConcurrentCallsShareOneCall() {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> response = new CompletableFuture<>();
+
+		CompletableFuture<String> first = flights.execute("JDS-1", () -> {
+			calls.incrementAndGet();
+			return response;
+		});
+		CompletableFuture<String> second = flights.execute("JDS-1", () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.completedFuture("other");
+		});
+
+		assertEquals(1, flights.getInFlight());
+		response.complete("JDS-1");
+		assertEquals("JDS-1", second.join());
+		assertEquals("JDS-1", first.join());
+		assertEquals(1, calls.get());
+		assertEquals(0, flights.getInFlight());
+	}
+
+	@Test
+	void testCallerCancellingLeavesTheOthersWaiting() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> first = flights.execute("JDS-1", () -> response);
+		CompletableFuture<String> second = flights.execute("JDS-1", () -> CompletableFuture.completedFuture("other"));
+
+		first.cancel(true);
+		second.obtrudeValue("ignored");
+		CompletableFuture<String> third = flights.execute("JDS-1", () -> CompletableFuture.completedFuture("other"));
+
+		assertEquals(1, flights.getInFlight());
+		response.complete("JDS-1");
+		assertTrue(first.isCancelled());
+		assertEquals("JDS-1", third.join());
+	}
+
+	@Test
+	void testCallAfterCompletionStartsANewOne() {
+		AtomicInteger calls = new AtomicInteger();
+		flights.execute("JDS-1", () -> CompletableFuture.completedFuture("v" + calls.incrementAndGet())).join();
+
+		assertEquals("v2", flights.execute("JDS-1",
+				() -> CompletableFuture.completedFuture("v" + calls.incrementAndGet())).join());
+	}
+
+}